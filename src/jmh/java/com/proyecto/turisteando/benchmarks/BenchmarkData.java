@@ -0,0 +1,126 @@
+package com.proyecto.turisteando.benchmarks;
+
+import com.proyecto.turisteando.entities.*;
+import com.proyecto.turisteando.entities.enums.Role;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Synthetic datasets for the benchmarks. The shape follows the real data: a few dozen cities and
+ * categories shared by every plan, up to five images and a handful of characteristics per plan.
+ * The generator is seeded so every run sees the same data.
+ */
+final class BenchmarkData {
+
+    static final int CITIES = 30;
+    static final int CATEGORIES = 10;
+    static final int CHARACTERISTICS = 20;
+
+    private static final String[] WORDS = {
+            "aventura", "playa", "montaña", "ciudad", "cultura", "selva", "desierto", "lago",
+            "gastronomía", "historia", "río", "volcán", "colonial", "nevado", "isla", "bosque"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static List<TouristPlanEntity> touristPlans(int size) {
+        Random random = new Random(42);
+
+        CountryEntity country = new CountryEntity(1L, "Colombia");
+        List<CityEntity> cities = new ArrayList<>();
+        for (long i = 1; i <= CITIES; i++) {
+            cities.add(new CityEntity(i, "Ciudad " + i, country));
+        }
+        List<CategoryEntity> categories = new ArrayList<>();
+        for (long i = 1; i <= CATEGORIES; i++) {
+            ImageEntity image = ImageEntity.builder().id(100_000 + i).imageUrl("https://img.test/category/" + i + ".png").build();
+            categories.add(CategoryEntity.builder().id(i).name("Categoría " + i).description("Descripción " + i)
+                    .status((byte) 1).image(image).build());
+        }
+        List<CharacteristicEntity> characteristics = new ArrayList<>();
+        for (long i = 1; i <= CHARACTERISTICS; i++) {
+            ImageEntity icon = ImageEntity.builder().id(200_000 + i).imageUrl("https://img.test/icon/" + i + ".svg").build();
+            characteristics.add(CharacteristicEntity.builder().id(i).name("Característica " + i)
+                    .status((byte) 1).image(icon).build());
+        }
+
+        List<TouristPlanEntity> plans = new ArrayList<>(size);
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        long imageId = 1;
+        for (long id = 1; id <= size; id++) {
+            TouristPlanEntity plan = TouristPlanEntity.builder()
+                    .id(id)
+                    .title(title(random) + " " + id)
+                    .description(title(random) + " " + title(random) + " " + title(random))
+                    .price((double) (50 + random.nextInt(950)))
+                    .seller("Vendedor " + random.nextInt(50))
+                    .city(cities.get(random.nextInt(CITIES)))
+                    .category(categories.get(random.nextInt(CATEGORIES)))
+                    .availabilityStartDate(today.plusDays(random.nextInt(30)))
+                    .availabilityEndDate(today.plusDays(30 + random.nextInt(300)))
+                    .capacity(5 + random.nextInt(40))
+                    .duration((1 + random.nextInt(7)) + " días")
+                    .totalReviews(random.nextInt(200))
+                    .totalStars(0)
+                    .reviews(new ArrayList<>())
+                    .isActive(random.nextInt(10) != 0)
+                    .build();
+            plan.setTotalStars(plan.getTotalReviews() * (1 + random.nextInt(5)));
+
+            List<ImageEntity> images = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(5); i < count; i++) {
+                images.add(ImageEntity.builder().id(imageId).imageUrl("https://img.test/plan/" + imageId++ + ".jpg")
+                        .touristPlan(plan).build());
+            }
+            plan.setImages(images);
+
+            List<CharacteristicEntity> planCharacteristics = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(6); i < count; i++) {
+                planCharacteristics.add(characteristics.get(random.nextInt(CHARACTERISTICS)));
+            }
+            plan.setCharacteristic(planCharacteristics);
+            plans.add(plan);
+        }
+        return plans;
+    }
+
+    static Set<Long> favoriteIds(int plans) {
+        Random random = new Random(7);
+        Set<Long> favorites = new HashSet<>();
+        for (int i = 0; i < Math.max(1, plans / 100); i++) {
+            favorites.add(1L + random.nextInt(plans));
+        }
+        return favorites;
+    }
+
+    static List<UserEntity> users(int size) {
+        Random random = new Random(42);
+        List<UserEntity> users = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            users.add(UserEntity.builder()
+                    .id(id)
+                    .name(capitalize(WORDS[random.nextInt(WORDS.length)]))
+                    .lastName(capitalize(WORDS[random.nextInt(WORDS.length)]))
+                    .email("usuario" + id + "@turisteando.test")
+                    .password("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench")
+                    .role(random.nextInt(20) == 0 ? Role.ADMIN : Role.BUYER)
+                    .isActive(true)
+                    .build());
+        }
+        return users;
+    }
+
+    private static String title(Random random) {
+        return capitalize(WORDS[random.nextInt(WORDS.length)]);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.proyecto.turisteando.benchmarks;
+
+import com.proyecto.turisteando.dtos.requestDto.TouristPlanRequestDto;
+import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.services.implement.TouristPlanServiceImpl;
+import com.proyecto.turisteando.services.implement.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory filters behind {@code /api/tourist-plans/search} and {@code /api/users/search}.
+ * Both filters are private to their services, so they are called through method handles on
+ * instances without dependencies (the filters do not use any).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<TouristPlanEntity> touristPlans;
+    private List<UserEntity> users;
+
+    private MethodHandle filterTouristPlans;
+    private MethodHandle filterUsers;
+
+    private TouristPlanRequestDto searchByTitleAndCategory;
+    private TouristPlanRequestDto searchByCity;
+    private UserRequestDto searchByName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        touristPlans = BenchmarkData.touristPlans(size);
+        users = BenchmarkData.users(size);
+
+        MethodHandle touristPlanFilter = MethodHandles.privateLookupIn(TouristPlanServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(TouristPlanServiceImpl.class, "filterTouristPlans",
+                        MethodType.methodType(List.class, List.class, TouristPlanRequestDto.class));
+        filterTouristPlans = touristPlanFilter.bindTo(new TouristPlanServiceImpl());
+
+        MethodHandle userFilter = MethodHandles.privateLookupIn(UserServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(UserServiceImpl.class, "filterUsers",
+                        MethodType.methodType(List.class, List.class, UserRequestDto.class));
+        filterUsers = userFilter.bindTo(new UserServiceImpl());
+
+        searchByTitleAndCategory = new TouristPlanRequestDto("playa", null, null, null, null, 3L,
+                null, null, null, null, null, null, null, null);
+        searchByCity = new TouristPlanRequestDto(null, null, null, null, 7L, null,
+                null, null, null, null, null, null, null, null);
+        searchByName = new UserRequestDto("mon", null, null, null);
+    }
+
+    @Benchmark
+    public Object filterTouristPlansByTitleAndCategory() throws Throwable {
+        return (List<?>) filterTouristPlans.invoke(touristPlans, searchByTitleAndCategory);
+    }
+
+    @Benchmark
+    public Object filterTouristPlansByCity() throws Throwable {
+        return (List<?>) filterTouristPlans.invoke(touristPlans, searchByCity);
+    }
+
+    @Benchmark
+    public Object filterUsersByName() throws Throwable {
+        return (List<?>) filterUsers.invoke(users, searchByName);
+    }
+}
@@ -0,0 +1,39 @@
+package com.proyecto.turisteando.benchmarks;
+
+import com.proyecto.turisteando.mappers.*;
+import com.proyecto.turisteando.services.implement.CategoryServiceImpl;
+import com.proyecto.turisteando.services.implement.CharacteristicServiceImpl;
+import com.proyecto.turisteando.services.implement.CityServiceImpl;
+import com.proyecto.turisteando.services.implement.CountryServiceImpl;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Minimal Spring context with the generated MapStruct mappers wired as in the application.
+ * The services the mappers use for request-to-entity conversions are mocks: the benchmarks only
+ * exercise the entity-to-DTO direction.
+ */
+final class MapperContext implements AutoCloseable {
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+
+    MapperContext() {
+        context.registerBean(CategoryServiceImpl.class, () -> Mockito.mock(CategoryServiceImpl.class));
+        context.registerBean(CharacteristicServiceImpl.class, () -> Mockito.mock(CharacteristicServiceImpl.class));
+        context.registerBean(CityServiceImpl.class, () -> Mockito.mock(CityServiceImpl.class));
+        context.registerBean(CountryServiceImpl.class, () -> Mockito.mock(CountryServiceImpl.class));
+        context.register(ReferenceDtoCache.class, CountryMapperImpl.class, CityMapperImpl.class,
+                CategoryMapperImpl.class, CharacteristicMapperImpl.class, ImageMapperImpl.class,
+                TouristPlanMapperImpl.class);
+        context.refresh();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
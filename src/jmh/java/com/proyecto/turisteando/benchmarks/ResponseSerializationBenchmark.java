@@ -0,0 +1,46 @@
+package com.proyecto.turisteando.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanResponseDto;
+import com.proyecto.turisteando.mappers.TouristPlanMapper;
+import com.proyecto.turisteando.utils.Response;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@link Response} envelope with a list of plans, which is what the
+ * listing endpoints write to the wire. The ObjectMapper is configured the way Spring Boot does it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int plans;
+
+    private ObjectMapper objectMapper;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        try (MapperContext context = new MapperContext()) {
+            List<TouristPlanResponseDto> dtos = context.getBean(TouristPlanMapper.class)
+                    .toDtoList(BenchmarkData.touristPlans(plans));
+            response = new Response(true, HttpStatus.OK, dtos);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
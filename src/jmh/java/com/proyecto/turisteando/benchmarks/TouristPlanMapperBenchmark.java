@@ -0,0 +1,56 @@
+package com.proyecto.turisteando.benchmarks;
+
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanResponseDto;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.mappers.TouristPlanMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of tourist plans, as done by every listing endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TouristPlanMapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int plans;
+
+    private MapperContext context;
+    private TouristPlanMapper touristPlanMapper;
+    private List<TouristPlanEntity> touristPlans;
+    private Set<Long> favoriteIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new MapperContext();
+        touristPlanMapper = context.getBean(TouristPlanMapper.class);
+        touristPlans = BenchmarkData.touristPlans(plans);
+        favoriteIds = BenchmarkData.favoriteIds(plans);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void toDto(Blackhole blackhole) {
+        for (TouristPlanEntity touristPlan : touristPlans) {
+            blackhole.consume(touristPlanMapper.toDto(touristPlan));
+        }
+    }
+
+    @Benchmark
+    public List<TouristPlanResponseDto> toDtoListWithFavorites() {
+        return touristPlanMapper.toDtoListWithFavorites(touristPlans, favoriteIds);
+    }
+}
@@ -2,6 +2,7 @@ package com.proyecto.turisteando.auth;
 
 import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
 import com.proyecto.turisteando.utils.Response;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,8 +27,21 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Response> login(@RequestBody LoginRequest request) {
-        Response response = new Response(true, HttpStatus.OK, authService.login(request));
+    public ResponseEntity<Response> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        Response response = new Response(true, HttpStatus.OK, authService.login(request, httpRequest.getRemoteAddr()));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Response> refresh(@Validated @RequestBody RefreshTokenRequest request) {
+        Response response = new Response(true, HttpStatus.OK, authService.refresh(request));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Response> logout(@Validated @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        Response response = new Response(true, HttpStatus.OK, "Sesión cerrada");
         return ResponseEntity.ok(response);
     }
 
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
 
     private String accessToken;
+    private String refreshToken;
     private UserResponseDto user;
 
 }
@@ -3,18 +3,21 @@ package com.proyecto.turisteando.auth;
 import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
 import com.proyecto.turisteando.entities.UserEntity;
 import com.proyecto.turisteando.entities.enums.Role;
+import com.proyecto.turisteando.events.UserRegisteredEvent;
 import com.proyecto.turisteando.exceptions.customExceptions.AuthenticationFailedException;
-import com.proyecto.turisteando.exceptions.customExceptions.UserNotFoundException;
+import com.proyecto.turisteando.exceptions.customExceptions.InvalidRefreshTokenException;
+import com.proyecto.turisteando.exceptions.customExceptions.PasswordHashingUnavailableException;
 import com.proyecto.turisteando.jwt.JwtService;
 import com.proyecto.turisteando.mappers.IUserMapper;
 import com.proyecto.turisteando.repositories.IUserRepository;
-import com.proyecto.turisteando.services.implement.EmailService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,7 +41,13 @@ public class AuthService {
     IUserMapper userMapper;
 
     @Autowired
-    EmailService emailService;
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
 
     @Transactional(rollbackFor = Exception.class)
     public AuthResponse register(UserRequestDto request) {
@@ -52,52 +61,84 @@ public class AuthService {
                     .build();
             userRepository.save(user);
 
-            // Enviar email de confirmación de registro para el usuario nuevo
-//            emailService.sendEmail(user.getEmail(), user.getName());
-//            emailService.sendHtmlMessage(user.getEmail(), user.getName(), user.getLastName());
-            emailService.sendHtmlTemplate(user.getEmail(), user.getName(), user.getLastName());
+            // El email de confirmación se envía después del commit (RegistrationEmailListener),
+            // así el request no retiene la conexión durante la llamada SMTP
+            eventPublisher.publishEvent(new UserRegisteredEvent(user.getEmail(), user.getName(), user.getLastName()));
 
             String token = jwtService.generateToken(user);
 
             return AuthResponse.builder()
                     .accessToken(token)
+                    .refreshToken(refreshTokenService.issue(user.getId()))
                     .user(userMapper.toDto(user))
                     .build();
         } catch (DataIntegrityViolationException e) {
             throw new DataIntegrityViolationException("Ya existe un usuario con ese email");
+        } catch (PasswordHashingUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // Se rechaza antes de consultar la base de datos o verificar la contraseña
+        loginAttemptGuard.checkLoginAllowed(clientIp, request.getEmail());
+
         try {
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getEmail(),
                             request.getPassword()
                     )
             );
 
-            UserEntity user = userRepository.findByEmail(request.getEmail())
-                    .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
+            // El principal es la proyección de autenticación, no carga relaciones del usuario
+            AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
-            if (!user.getIsActive()) {
+            if (!principal.getIsActive()) {
                 throw new LockedException("Cuenta bloqueada, contacta con soporte");
             }
+            // Contraseña correcta: el intento no cuenta para el límite de la cuenta
+            loginAttemptGuard.loginSucceeded(request.getEmail());
 
-            String token = jwtService.generateToken(user);
+            String token = jwtService.generateToken(principal);
 
+            // La respuesta sale de la misma proyección: sin segunda consulta por la entidad completa
             return AuthResponse.builder()
                     .accessToken(token)
-                    .user(userMapper.toDto(user))
+                    .refreshToken(refreshTokenService.issue(principal.getId()))
+                    .user(userMapper.toDto(principal))
                     .build();
         } catch (BadCredentialsException e) {
             throw new AuthenticationFailedException("Nombre de usuario o contraseña incorrectos");
-        } catch (UserNotFoundException e) {
-            throw new UserNotFoundException(e.getMessage());
         } catch (LockedException e) {
             throw new AuthenticationFailedException(e.getMessage());
         }
     }
+
+    /**
+     * Renews the access token with a refresh token. The refresh token is rotated on every call;
+     * no password verification is involved.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(request.getRefreshToken());
+
+        AuthenticatedUser principal = userRepository.findAuthenticatedUserById(rotated.userId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido"));
+
+        if (!principal.getIsActive()) {
+            refreshTokenService.revoke(rotated.refreshToken());
+            throw new AuthenticationFailedException("Cuenta bloqueada, contacta con soporte");
+        }
+
+        return AuthResponse.builder()
+                .accessToken(jwtService.generateToken(principal))
+                .refreshToken(rotated.refreshToken())
+                .build();
+    }
+
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
 }
@@ -0,0 +1,64 @@
+package com.proyecto.turisteando.auth;
+
+import com.proyecto.turisteando.entities.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Slim view of a user used on the authentication path (login and token verification).
+ * It is built with a JPQL constructor expression, so it never touches the user's relationships,
+ * and carries the profile fields of the login response so the login needs no second query.
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "password")
+@EqualsAndHashCode(of = "id")
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final Boolean isActive;
+    private final String name;
+    private final String lastName;
+    private final Long version;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public String getUsername() {
+        return this.email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
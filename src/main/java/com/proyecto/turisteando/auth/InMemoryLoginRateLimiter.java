@@ -0,0 +1,120 @@
+package com.proyecto.turisteando.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free, in-memory token buckets held in a Caffeine cache bounded to {@code auth.rate-limit.max-keys}
+ * entries. A bucket expires once it has been idle long enough to be full again, which is equivalent
+ * to keeping it. Under a spray of spoofed keys the cache evicts by frequency, so one-off keys do not
+ * push out the buckets of clients that keep retrying.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryLoginRateLimiter(@Value("${auth.rate-limit.max-keys}") int maxKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new Expiry<String, Bucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+                        return bucket.policy.nanosToFull();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return bucket.policy.nanosToFull();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return bucket.policy.nanosToFull();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new Bucket(policy, now)).tryConsume(now);
+    }
+
+    @Override
+    public void refund(String key, RateLimitPolicy policy) {
+        Bucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            bucket.refund(System.nanoTime());
+        }
+    }
+
+    /**
+     * Drops expired buckets even when no login arrives to trigger Caffeine's own maintenance.
+     */
+    @Scheduled(fixedDelayString = "${auth.rate-limit.cleanup-interval-ms}")
+    public void evictIdleBuckets() {
+        buckets.cleanUp();
+    }
+
+    private static final class Bucket {
+
+        private final RateLimitPolicy policy;
+        private final double refillRatePerNano;
+        private final AtomicReference<State> state;
+
+        private Bucket(RateLimitPolicy policy, long now) {
+            this.policy = policy;
+            this.refillRatePerNano = policy.refillRatePerNano();
+            this.state = new AtomicReference<>(new State(policy.getCapacity(), now));
+        }
+
+        private boolean tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double available = tokensAt(current, now);
+                if (available < 1) {
+                    return false;
+                }
+                if (state.compareAndSet(current, new State(available - 1, now))) {
+                    return true;
+                }
+            }
+        }
+
+        private void refund(long now) {
+            while (true) {
+                State current = state.get();
+                double available = Math.min(policy.getCapacity(), tokensAt(current, now) + 1);
+                if (state.compareAndSet(current, new State(available, now))) {
+                    return;
+                }
+            }
+        }
+
+        private double tokensAt(State current, long now) {
+            double refilled = current.tokens + (now - current.updatedAt) * refillRatePerNano;
+            return Math.min(policy.getCapacity(), refilled);
+        }
+    }
+
+    private static final class State {
+
+        private final double tokens;
+        private final long updatedAt;
+
+        private State(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
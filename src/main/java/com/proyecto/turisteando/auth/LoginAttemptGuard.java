@@ -0,0 +1,65 @@
+package com.proyecto.turisteando.auth;
+
+import com.proyecto.turisteando.exceptions.customExceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Applies the login rate limits per client IP and per email before any credential check runs,
+ * so rejected attempts cost neither a database lookup nor a BCrypt verification. A successful
+ * login gives its email token back: only failed attempts count against the account.
+ */
+@Component
+public class LoginAttemptGuard {
+
+    private final LoginRateLimiter rateLimiter;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy emailPolicy;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginAttemptGuard(LoginRateLimiter rateLimiter,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.rate-limit.ip.capacity}") long ipCapacity,
+                             @Value("${auth.rate-limit.ip.refill-per-minute}") long ipRefillPerMinute,
+                             @Value("${auth.rate-limit.email.capacity}") long emailCapacity,
+                             @Value("${auth.rate-limit.email.refill-per-minute}") long emailRefillPerMinute) {
+        this.rateLimiter = rateLimiter;
+        this.ipPolicy = new RateLimitPolicy(ipCapacity, ipRefillPerMinute, Duration.ofMinutes(1));
+        this.emailPolicy = new RateLimitPolicy(emailCapacity, emailRefillPerMinute, Duration.ofMinutes(1));
+        this.ipRejections = Counter.builder("auth.login.rate_limited")
+                .description("Intentos de login rechazados por límite de frecuencia")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.login.rate_limited")
+                .description("Intentos de login rechazados por límite de frecuencia")
+                .tag("key", "email")
+                .register(meterRegistry);
+    }
+
+    public void checkLoginAllowed(String clientIp, String email) {
+        if (clientIp != null && !rateLimiter.tryConsume("ip:" + clientIp, ipPolicy)) {
+            ipRejections.increment();
+            throw new TooManyLoginAttemptsException("Demasiados intentos de inicio de sesión, intenta más tarde");
+        }
+        if (email != null && !rateLimiter.tryConsume(emailKey(email), emailPolicy)) {
+            emailRejections.increment();
+            throw new TooManyLoginAttemptsException("Demasiados intentos de inicio de sesión para esta cuenta, intenta más tarde");
+        }
+    }
+
+    public void loginSucceeded(String email) {
+        if (email != null) {
+            rateLimiter.refund(emailKey(email), emailPolicy);
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+}
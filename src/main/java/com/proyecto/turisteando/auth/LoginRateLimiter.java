@@ -0,0 +1,27 @@
+package com.proyecto.turisteando.auth;
+
+/**
+ * Storage for the login token buckets. The default implementation keeps the buckets in memory
+ * ({@link InMemoryLoginRateLimiter}); a shared store (e.g. Redis) can be plugged in by providing
+ * another bean and setting {@code auth.rate-limit.store} to a value other than {@code memory}.
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * Tries to take one token from the bucket identified by the key.
+     *
+     * @param key    The bucket key, e.g. {@code ip:203.0.113.7} or {@code email:user@mail.com}.
+     * @param policy Capacity and refill rate of the bucket.
+     * @return true if a token was available, false if the request must be rejected.
+     */
+    boolean tryConsume(String key, RateLimitPolicy policy);
+
+    /**
+     * Gives back one token taken by {@link #tryConsume}, never above the bucket's capacity.
+     * Does nothing if the bucket no longer exists.
+     *
+     * @param key    The bucket key.
+     * @param policy Capacity and refill rate of the bucket.
+     */
+    void refund(String key, RateLimitPolicy policy);
+}
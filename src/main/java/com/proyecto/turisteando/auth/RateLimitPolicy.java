@@ -0,0 +1,31 @@
+package com.proyecto.turisteando.auth;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Token bucket definition: a bucket holds up to {@code capacity} tokens and regains
+ * {@code refillTokens} every {@code refillPeriod}.
+ */
+@Value
+public class RateLimitPolicy {
+
+    long capacity;
+    long refillTokens;
+    Duration refillPeriod;
+
+    /**
+     * Tokens regained per nanosecond.
+     */
+    public double refillRatePerNano() {
+        return (double) refillTokens / refillPeriod.toNanos();
+    }
+
+    /**
+     * Time an idle bucket needs to be completely full again.
+     */
+    public long nanosToFull() {
+        return (long) Math.ceil(capacity / refillRatePerNano());
+    }
+}
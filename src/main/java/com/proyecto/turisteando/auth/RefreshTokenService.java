@@ -0,0 +1,126 @@
+package com.proyecto.turisteando.auth;
+
+import com.proyecto.turisteando.entities.RefreshTokenEntity;
+import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.exceptions.customExceptions.InvalidRefreshTokenException;
+import com.proyecto.turisteando.repositories.IUserRepository;
+import com.proyecto.turisteando.repositories.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. Validating a refresh token is a single lookup by its
+ * SHA-256 hash: no password hashing is involved, so clients can renew their short-lived access
+ * tokens without going through BCrypt again.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationTime;
+
+    /**
+     * Starts a new token family for the user (login or register).
+     *
+     * @param userId The ID of the user.
+     * @return The raw refresh token to hand to the client.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return createToken(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes a refresh token and returns its replacement in the same family.
+     * If the token was already used, the whole family is revoked (reuse detection).
+     *
+     * @param rawToken The refresh token presented by the client.
+     * @return The ID of the owner and the new raw refresh token.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RotatedToken rotate(String rawToken) {
+        RefreshTokenEntity token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido"));
+
+        if (token.isRevoked() || refreshTokenRepository.revokeIfActive(token.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("Reutilización de refresh token detectada, familia {} revocada", token.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token inválido");
+        }
+
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("Refresh token expirado, inicia sesión nuevamente");
+        }
+
+        Long userId = token.getUser().getId();
+        return new RotatedToken(userId, createToken(userId, token.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the given token (logout). Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Refresh tokens expirados eliminados: {}", deleted);
+    }
+
+    private String createToken(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        UserEntity user = userRepository.getReferenceById(userId);
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationTime * 1_000_000))
+                .revoked(false)
+                .build());
+        return rawToken;
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    public record RotatedToken(Long userId, String refreshToken) {
+    }
+}
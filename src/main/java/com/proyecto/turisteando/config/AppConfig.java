@@ -1,7 +1,10 @@
 package com.proyecto.turisteando.config;
 
+import com.proyecto.turisteando.auth.BoundedPasswordEncoder;
 import com.proyecto.turisteando.repositories.IUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,6 +14,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class AppConfig {
@@ -18,27 +22,48 @@ public class AppConfig {
     @Autowired
     IUserRepository userRepository;
 
+    @Value("${auth.bcrypt.strength}")
+    private int bcryptStrength;
+
+    @Value("${auth.bcrypt.pool-size}")
+    private int bcryptPoolSize;
+
+    @Value("${auth.bcrypt.queue-capacity}")
+    private int bcryptQueueCapacity;
+
+    @Value("${auth.bcrypt.timeout-ms}")
+    private long bcryptTimeoutMs;
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
+    /**
+     * BCrypt runs on its own bounded pool so that authentication load cannot starve the request threads.
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength),
+                bcryptPoolSize,
+                bcryptQueueCapacity,
+                bcryptTimeoutMs,
+                meterRegistry
+        );
     }
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
+        return username -> userRepository.findAuthenticatedUserByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
@@ -0,0 +1,56 @@
+package com.proyecto.turisteando.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Adds the driver-specific statement cache settings to the Hikari pool before it starts. The driver is
+ * taken from the JDBC URL because the same build runs on MySQL and on PostgreSQL; any value set
+ * explicitly through {@code spring.datasource.hikari.data-source-properties.*} wins.
+ */
+@Slf4j
+@Component
+public class DataSourceStatementCacheConfigurer implements BeanPostProcessor {
+
+    private static final Map<String, String> MYSQL_PROPERTIES = Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "prepStmtCacheSqlLimit", "2048",
+            "useServerPrepStmts", "true",
+            "useLocalSessionState", "true",
+            "cacheResultSetMetadata", "true",
+            "cacheServerConfiguration", "true",
+            "elideSetAutoCommits", "true",
+            "maintainTimeStats", "false",
+            "rewriteBatchedStatements", "true");
+
+    private static final Map<String, String> POSTGRESQL_PROPERTIES = Map.of(
+            "prepareThreshold", "3",
+            "preparedStatementCacheQueries", "256",
+            "preparedStatementCacheSizeMiB", "5",
+            "reWriteBatchedInserts", "true");
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getJdbcUrl() != null) {
+            String url = dataSource.getJdbcUrl();
+            if (url.startsWith("jdbc:mysql:")) {
+                apply(dataSource, MYSQL_PROPERTIES);
+            } else if (url.startsWith("jdbc:postgresql:")) {
+                apply(dataSource, POSTGRESQL_PROPERTIES);
+            }
+        }
+        return bean;
+    }
+
+    private void apply(HikariDataSource dataSource, Map<String, String> defaults) {
+        Properties properties = dataSource.getDataSourceProperties();
+        defaults.forEach(properties::putIfAbsent);
+        log.info("Caché de sentencias configurada para el pool {}: {}", dataSource.getPoolName(), defaults.keySet());
+    }
+}
@@ -0,0 +1,51 @@
+package com.proyecto.turisteando.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates the Prometheus scraper on {@code /actuator/prometheus} with a static bearer token
+ * ({@code metrics.scrape-token}), so it does not depend on user access tokens that expire in minutes.
+ * The token grants {@link #SCRAPER_AUTHORITY} only; with no token configured the filter never matches.
+ */
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+    public static final String SCRAPER_AUTHORITY = "METRICS_SCRAPER";
+    static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeTokenFilter(String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return scrapeToken.length == 0 || !PROMETHEUS_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        // Comparación en tiempo constante: el token no debe poder adivinarse por tiempos de respuesta
+        if (header != null && header.startsWith("Bearer ")
+                && MessageDigest.isEqual(scrapeToken, header.substring(7).getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "prometheus", null, List.of(new SimpleGrantedAuthority(SCRAPER_AUTHORITY))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,54 @@
+package com.proyecto.turisteando.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers when the last user request arrived, so the keep-warm task only runs after an idle
+ * period. Actuator probes, the legacy {@code /health} ping and the warm-up's own requests (see
+ * {@link #isWarmUp}) do not count as activity.
+ */
+@Component
+public class RequestActivityFilter extends OncePerRequestFilter {
+
+    /** Marks the synthetic requests of the startup warm-up. */
+    public static final String WARM_UP_HEADER = "X-Warm-Up";
+
+    private final AtomicLong lastRequestNanos = new AtomicLong(System.nanoTime());
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        lastRequestNanos.set(System.nanoTime());
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator") || path.equals("/health") || isWarmUp(request);
+    }
+
+    /**
+     * Whether the request was sent by the startup warm-up: it carries {@link #WARM_UP_HEADER} and comes
+     * from this host, so an external client cannot hide its traffic behind the header.
+     */
+    public static boolean isWarmUp(HttpServletRequest request) {
+        if (request.getHeader(WARM_UP_HEADER) == null) {
+            return false;
+        }
+        String address = request.getRemoteAddr();
+        return address != null && (address.startsWith("127.") || address.equals("::1") || address.equals("0:0:0:0:0:0:0:1"));
+    }
+
+    public long idleMillis() {
+        return (System.nanoTime() - lastRequestNanos.get()) / 1_000_000;
+    }
+}
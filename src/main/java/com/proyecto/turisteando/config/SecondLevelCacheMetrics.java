@@ -0,0 +1,51 @@
+package com.proyecto.turisteando.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hit ratio of each second-level cache region as
+ * {@code hibernate.cache.region.hit.ratio{region}}. hibernate-micrometer already exports the raw
+ * hit and miss counters; the ratio is the number the cache sizes in hibernate-cache.conf are tuned by.
+ * It reads Hibernate's statistics, so it needs {@code hibernate.generate_statistics=true}.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                    .description("Proporción de aciertos de la región de la caché de segundo nivel")
+                    .tag("region", region)
+                    .register(registry);
+        }
+        Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> {
+                    long hits = stats.getQueryCacheHitCount();
+                    long total = hits + stats.getQueryCacheMissCount();
+                    return total == 0 ? Double.NaN : (double) hits / total;
+                })
+                .description("Proporción de aciertos de la caché de consultas")
+                .tag("region", "query-cache")
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long total = region.getHitCount() + region.getMissCount();
+        return total == 0 ? Double.NaN : (double) region.getHitCount() / total;
+    }
+}
@@ -3,9 +3,12 @@ package com.proyecto.turisteando.config;
 import com.proyecto.turisteando.entities.enums.Role;
 import com.proyecto.turisteando.jwt.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,6 +29,9 @@ public class SecurityConfig {
     @Autowired
     JwtAuthenticationFilter jwtAuthFilter;
 
+    @Value("${metrics.scrape-token}")
+    String metricsScrapeToken;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -43,6 +49,7 @@ public class SecurityConfig {
                             .requestMatchers(HttpMethod.PATCH, "/api/cities/**").hasAuthority(Role.ADMIN.toString())
                             .requestMatchers(HttpMethod.DELETE, "/api/cities/**").hasAuthority(Role.ADMIN.toString())
                             .requestMatchers("/api/images/**").hasAuthority(Role.ADMIN.name())
+                            .requestMatchers(HttpMethod.GET, "/api/reservations/export").hasAuthority(Role.ADMIN.name())
                             .requestMatchers("/api/reservations/**").hasAnyAuthority(Role.ADMIN.name(), Role.BUYER.name())
                             .requestMatchers(HttpMethod.POST, "/api/reviews/**").hasAnyAuthority(Role.ADMIN.name(), Role.BUYER.name())
                             .requestMatchers(HttpMethod.PUT, "/api/reviews/**").hasAnyAuthority(Role.ADMIN.name(), Role.BUYER.name())
@@ -54,11 +61,22 @@ public class SecurityConfig {
                             .requestMatchers(HttpMethod.PATCH, "/api/tourist-plans/**").hasAuthority(Role.ADMIN.name())
                             .requestMatchers(HttpMethod.GET, "/api/tourist-plans/allfavoritesbyuser").authenticated()
                             .requestMatchers("/api/users/**").hasAuthority(Role.ADMIN.name())
+                            .requestMatchers("/actuator/health/**").permitAll()
+                            // El scraper usa su propio token estático (metrics.scrape-token): los de acceso vencen en minutos
+                            .requestMatchers("/actuator/prometheus").hasAnyAuthority(MetricsScrapeTokenFilter.SCRAPER_AUTHORITY, Role.ADMIN.name())
+                            .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.name())
                             .anyRequest().permitAll();
                 })
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Sin token o con uno vencido/inválido, una ruta protegida responde 401 (no 403) e indica el esquema
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((request, response, authException) -> {
+                            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                            response.sendError(HttpStatus.UNAUTHORIZED.value(), HttpStatus.UNAUTHORIZED.getReasonPhrase());
+                        }))
                 .authenticationProvider(authenticationProvider)
+                .addFilterBefore(new MetricsScrapeTokenFilter(metricsScrapeToken), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
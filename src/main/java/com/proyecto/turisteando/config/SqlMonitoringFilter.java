@@ -0,0 +1,118 @@
+package com.proyecto.turisteando.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Records the number and duration of the SQL statements of every HTTP request, per endpoint, and
+ * flags the requests that run too many statements, spend too long in the database or repeat the
+ * same statement shape (the usual signature of an N+1 in the mappers).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql.monitor.max-statements}")
+    private int maxStatements;
+
+    @Value("${sql.monitor.repeated-statement-threshold}")
+    private int repeatedStatementThreshold;
+
+    @Value("${sql.monitor.slow-request-ms}")
+    private long slowRequestMs;
+
+    @Value("${sql.monitor.slow-statement-ms}")
+    private long slowStatementMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.clear();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("Sentencias SQL ejecutadas por petición")
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("sql.request.time")
+                .description("Tiempo en la base de datos por petición")
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(stats.getSqlNanos()));
+
+        if (stats.getStatements() > maxStatements) {
+            flag(method, endpoint, "too_many_statements");
+            log.warn("{} {} ejecutó {} sentencias SQL (umbral {})", method, endpoint, stats.getStatements(), maxStatements);
+        }
+
+        long sqlMillis = Duration.ofNanos(stats.getSqlNanos()).toMillis();
+        if (sqlMillis > slowRequestMs) {
+            flag(method, endpoint, "slow_request");
+            log.warn("{} {} pasó {} ms en la base de datos (umbral {} ms)", method, endpoint, sqlMillis, slowRequestMs);
+        }
+
+        long slowestMillis = Duration.ofNanos(stats.getSlowestStatementNanos()).toMillis();
+        if (slowestMillis > slowStatementMs) {
+            flag(method, endpoint, "slow_statement");
+            log.warn("{} {} ejecutó una sentencia de {} ms: {}", method, endpoint, slowestMillis, stats.getSlowestStatement());
+        }
+
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedShape();
+        if (repeated != null && repeated.getValue() >= repeatedStatementThreshold) {
+            flag(method, endpoint, "repeated_statement");
+            log.warn("Posible N+1 en {} {}: la misma sentencia se ejecutó {} veces: {}",
+                    method, endpoint, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private void flag(String method, String endpoint, String reason) {
+        Counter.builder("sql.request.flagged")
+                .description("Peticiones que superaron un umbral de SQL")
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
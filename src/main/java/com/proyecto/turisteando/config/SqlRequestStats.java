@@ -0,0 +1,74 @@
+package com.proyecto.turisteando.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of the HTTP request being served by the current thread. Filled by
+ * {@link SqlStatementInspector} and {@link SqlTimingSessionListener}, read by {@link SqlMonitoringFilter}.
+ * Statements executed outside a request (startup, scheduled jobs, async exports) are not tracked.
+ */
+final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long sqlNanos;
+    private long slowestStatementNanos;
+    private String slowestStatement;
+    private String lastStatement;
+
+    static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void statementPrepared(String shape) {
+        statements++;
+        lastStatement = shape;
+        shapes.merge(shape, 1, Integer::sum);
+    }
+
+    void statementExecuted(long nanos) {
+        sqlNanos += nanos;
+        if (nanos > slowestStatementNanos) {
+            slowestStatementNanos = nanos;
+            slowestStatement = lastStatement;
+        }
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    long getSlowestStatementNanos() {
+        return slowestStatementNanos;
+    }
+
+    String getSlowestStatement() {
+        return slowestStatement;
+    }
+
+    /**
+     * @return The statement shape executed the most times in this request, or null if none.
+     */
+    Map.Entry<String, Integer> mostRepeatedShape() {
+        return shapes.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
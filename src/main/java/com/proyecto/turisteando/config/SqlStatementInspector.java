@@ -0,0 +1,33 @@
+package com.proyecto.turisteando.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * Counts the statements prepared by Hibernate during an HTTP request, grouped by shape.
+ * Registered through {@code hibernate.session_factory.statement_inspector}; Hibernate instantiates
+ * it, so it talks to the request through {@link SqlRequestStats}. The SQL is returned unchanged.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    // IN lists of different sizes are the same statement shape
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\((\\s*\\?\\s*,)*\\s*\\?\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LITERALS = Pattern.compile("'[^']*'|\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementPrepared(shapeOf(sql));
+        }
+        return sql;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = LITERALS.matcher(sql).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
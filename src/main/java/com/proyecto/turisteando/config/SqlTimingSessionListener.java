@@ -0,0 +1,40 @@
+package com.proyecto.turisteando.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures the JDBC execution time of the statements of the current HTTP request.
+ * Registered through {@code hibernate.session.events.auto}; Hibernate creates one per session.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null && executionStart != 0) {
+            stats.statementExecuted(System.nanoTime() - executionStart);
+        }
+        executionStart = 0;
+    }
+}
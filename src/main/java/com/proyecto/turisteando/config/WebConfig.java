@@ -1,7 +1,16 @@
 package com.proyecto.turisteando.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.observation.ObservationPredicate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,6 +26,26 @@ public class WebConfig implements WebMvcConfigurer {
 //                .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
                 .allowedHeaders("*")
+                // El front lee el ETag para devolverlo en If-Match al actualizar
+                .exposedHeaders(HttpHeaders.ETAG)
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    // Codificaciones binarias seleccionadas por Accept; comparten la configuración de Jackson del JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Las peticiones del calentamiento de arranque no entran en http.server.requests (sesgarían los percentiles)
+    @Bean
+    public ObservationPredicate skipWarmUpRequests() {
+        return (name, context) -> !(context instanceof ServerRequestObservationContext request
+                && RequestActivityFilter.isWarmUp(request.getCarrier()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -1,12 +1,19 @@
 package com.proyecto.turisteando.controllers;
 
 
+import com.proyecto.turisteando.datasource.DataSourceRoute;
 import com.proyecto.turisteando.dtos.IDto;
 import com.proyecto.turisteando.dtos.requestDto.CategoryRequestDto;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.services.ICategoryService;
+import com.proyecto.turisteando.utils.ETags;
 import com.proyecto.turisteando.utils.Response;
+import com.proyecto.turisteando.utils.SerializedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +21,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
@@ -24,24 +32,27 @@ import java.util.stream.StreamSupport;
 public class CategoryController {
 
     private final ICategoryService categoryService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ReferenceDtoCache referenceDtoCache;
 
-    //get all categories
+    //get all categories (respuesta pre-serializada, se regenera cuando cambian las categorías)
     @GetMapping("/all")
-    public ResponseEntity<Response> getAllCategories() {
-        Iterable<IDto> categoryIterable = categoryService.getAll();
-        List<IDto> categoryList = StreamSupport.stream(categoryIterable.spliterator(), false)
-                .toList();
-
-        Response response = new Response(true, HttpStatus.OK, categoryList);
-
-        return ResponseEntity.ok(response);
+    public void getAllCategories(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // En un fallo de caché se lee de la primaria: justo después de un cambio la réplica puede devolver
+        // las filas viejas, que quedarían guardadas con la generación nueva
+        serializedResponseCache.write("categories.all", referenceDtoCache.generation(ReferenceDtoCache.Region.CATEGORY), () -> DataSourceRoute.onPrimary(() -> {
+            Iterable<IDto> categoryIterable = categoryService.getAll();
+            List<IDto> categoryList = StreamSupport.stream(categoryIterable.spliterator(), false)
+                    .toList();
+            return new Response(true, HttpStatus.OK, categoryList);
+        }), request, response);
     }
 
     //get category by id
     @GetMapping("/{id}")
     public ResponseEntity<Response> getCategoryById(@PathVariable Long id) {
-        Response response = new Response(true, HttpStatus.OK, categoryService.read(id));
-        return ResponseEntity.ok(response);
+        IDto category = categoryService.read(id);
+        return ETags.ok(category).body(new Response(true, HttpStatus.OK, category));
     }
 
     @PostMapping(value = "/create", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -58,10 +69,11 @@ public class CategoryController {
         return ResponseEntity.ok(response);
     }
 
-    //update category
+    //update category (con If-Match, solo si la categoría sigue en la versión que leyó el cliente)
     @PutMapping(value = "/update/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Response> updateCategory(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestPart("category") CategoryRequestDto categoryDto,
             @RequestPart(value = "image", required = false) MultipartFile image) {
 
@@ -70,8 +82,8 @@ public class CategoryController {
             categoryDto.setImage(image);
         }
 
-        Response response = new Response(true, HttpStatus.OK, categoryService.update(categoryDto, id));
-        return ResponseEntity.ok(response);
+        IDto updatedCategory = categoryService.update(categoryDto, id, ETags.expectedVersions(ifMatch));
+        return ETags.ok(updatedCategory).body(new Response(true, HttpStatus.OK, updatedCategory));
     }
 
     //delete category
@@ -2,14 +2,20 @@ package com.proyecto.turisteando.controllers;
 
 
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
+import com.proyecto.turisteando.datasource.DataSourceRoute;
 import com.proyecto.turisteando.dtos.IDto;
 
 import com.proyecto.turisteando.dtos.requestDto.CharacteristicRequestDto;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.services.ICharacteristicService;
 import com.proyecto.turisteando.utils.Response;
+import com.proyecto.turisteando.utils.SerializedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -25,17 +31,20 @@ import org.springframework.web.multipart.MultipartFile;
 @Validated
 public class CharacteristicController {
     private final ICharacteristicService characteristicService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ReferenceDtoCache referenceDtoCache;
 
     //Get all characteristics
     @GetMapping("/all")
-    public ResponseEntity<Response> getAllCharacteristics() {
-        Iterable<IDto> characteristicIterable = characteristicService.getAll();
-        List<IDto> characteristicList = StreamSupport.stream(characteristicIterable.spliterator(), false)
-                .toList();
-
-        Response response = new Response(true, HttpStatus.OK, characteristicList);
-
-        return ResponseEntity.ok(response);
+    public void getAllCharacteristics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // En un fallo de caché se lee de la primaria: justo después de un cambio la réplica puede devolver
+        // las filas viejas, que quedarían guardadas con la generación nueva
+        serializedResponseCache.write("characteristics.all", referenceDtoCache.generation(ReferenceDtoCache.Region.CHARACTERISTIC), () -> DataSourceRoute.onPrimary(() -> {
+            Iterable<IDto> characteristicIterable = characteristicService.getAll();
+            List<IDto> characteristicList = StreamSupport.stream(characteristicIterable.spliterator(), false)
+                    .toList();
+            return new Response(true, HttpStatus.OK, characteristicList);
+        }), request, response);
     }
 
     //Get characteristic by id
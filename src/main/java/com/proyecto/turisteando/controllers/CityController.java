@@ -1,17 +1,23 @@
 package com.proyecto.turisteando.controllers;
 
+import com.proyecto.turisteando.datasource.DataSourceRoute;
 import com.proyecto.turisteando.dtos.requestDto.CityRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.CityResponseDto;
 import com.proyecto.turisteando.entities.CityEntity;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.services.CrudService;
 import com.proyecto.turisteando.services.ICrudService;
 import com.proyecto.turisteando.utils.Response;
+import com.proyecto.turisteando.utils.SerializedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -21,6 +27,12 @@ public class CityController {
     @Autowired
     private CrudService<CityRequestDto, CityResponseDto, Long> cityService;
 
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
+    @Autowired
+    private ReferenceDtoCache referenceDtoCache;
+
     @PostMapping("/create")
     public ResponseEntity<Response> create(@Valid @RequestBody CityRequestDto city) {
         Response response = new Response(true, HttpStatus.CREATED, cityService.create(city));
@@ -28,14 +40,16 @@ public class CityController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Response> getAll() {
-        List<CityResponseDto> cities = (List<CityResponseDto>) cityService.getAll();
-        Response response = new Response(true, HttpStatus.OK, cities);
-        if (cities.isEmpty()) {
-            response = new Response(false, HttpStatus.NO_CONTENT, "No se encontraron ciudades");
-            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(response);
-        }
-        return ResponseEntity.ok(response);
+    public void getAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // En un fallo de caché se lee de la primaria: justo después de un cambio la réplica puede devolver
+        // las filas viejas, que quedarían guardadas con la generación nueva
+        serializedResponseCache.write("cities.all", referenceDtoCache.generation(ReferenceDtoCache.Region.CITY), () -> DataSourceRoute.onPrimary(() -> {
+            List<CityResponseDto> cities = (List<CityResponseDto>) cityService.getAll();
+            if (cities.isEmpty()) {
+                return new Response(false, HttpStatus.NO_CONTENT, "No se encontraron ciudades");
+            }
+            return new Response(true, HttpStatus.OK, cities);
+        }), request, response);
     }
 
     @GetMapping("/{id}")
@@ -1,23 +1,29 @@
 package com.proyecto.turisteando.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Legacy health URL, kept for the clients that still call it. It answers with the status of the
+ * readiness group (/actuator/health/readiness) instead of running its own query.
+ */
 @RestController
 public class HealthCheckController {
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private HealthEndpoint healthEndpoint;
 
     @GetMapping("/health")
-    public String healthCheck() {
-        try {
-            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
-            return "Database is awake - test!";
-        } catch (Exception e) {
-            return "Database is not awake: " + e.getMessage();
-        }
+    public ResponseEntity<String> healthCheck() {
+        HealthComponent readiness = healthEndpoint.healthForPath("readiness");
+        Status status = readiness != null ? readiness.getStatus() : Status.UNKNOWN;
+        HttpStatus httpStatus = Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(httpStatus).body(status.getCode());
     }
 }
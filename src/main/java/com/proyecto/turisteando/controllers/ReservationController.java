@@ -1,17 +1,27 @@
 package com.proyecto.turisteando.controllers;
 
 import com.proyecto.turisteando.dtos.requestDto.ReservationRequestDto;
+import com.proyecto.turisteando.dtos.responseDto.PageResponseDto;
 import com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto;
+import com.proyecto.turisteando.exceptions.customExceptions.InvalidRequestParameterException;
 import com.proyecto.turisteando.services.IReservationService;
 import com.proyecto.turisteando.utils.Response;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,6 +39,10 @@ public class ReservationController {
     @Autowired
     private IReservationService reservationService;
 
+    // Tiempo máximo de la exportación; el resto de los endpoints asíncronos usa el valor por defecto
+    @Value("${reservations.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
+
     @GetMapping("/all")
     public ResponseEntity<Response> getAllReservations() {
         Iterable<ReservationResponseDto> reservationIterable = reservationService.getAll();
@@ -40,6 +54,33 @@ public class ReservationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Streams the reservations as CSV or NDJSON without loading them in memory.
+     * Without a date range every reservation is exported. The export runs asynchronously
+     * with its own timeout ({@code reservations.export.timeout-ms}).
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportReservations(
+            @RequestParam(value = "start", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "end", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpServletResponse response) {
+        LocalDate from = startDate != null ? startDate : LocalDate.of(1970, 1, 1);
+        LocalDate to = endDate != null ? endDate : LocalDate.of(9999, 12, 31);
+        if (from.isAfter(to)) {
+            throw new InvalidRequestParameterException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+
+        IReservationService.ExportFormat exportFormat = IReservationService.ExportFormat.fromParam(format);
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"");
+
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            reservationService.exportReservations(from, to, exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response> getReservationById(@PathVariable Long id) {
         Response response = new Response(true, HttpStatus.OK, reservationService.read(id));
@@ -74,6 +115,32 @@ public class ReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/tourist-plan/{touristPlanId}/page")
+    public ResponseEntity<Response> getReservationsByTouristPlanPage(
+            @PageableDefault(page = 0, size = 20, sort = "startDate") Pageable pageable,
+            @PathVariable Long touristPlanId) {
+        Page<ReservationResponseDto> reservations = reservationService.getReservationsByTouristPlan(touristPlanId, pageable);
+        return ResponseEntity.ok(new Response(true, HttpStatus.OK, PageResponseDto.of(reservations)));
+    }
+
+    @GetMapping("/search-by-date/page")
+    public ResponseEntity<Response> getReservationsByDateRangePage(
+            @PageableDefault(page = 0, size = 20, sort = "startDate") Pageable pageable,
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Slice<ReservationResponseDto> reservations = reservationService.findByStartDateBetween(startDate, endDate, pageable);
+        return ResponseEntity.ok(new Response(true, HttpStatus.OK, PageResponseDto.of(reservations)));
+    }
+
+    @GetMapping("/search-by-user/page")
+    public ResponseEntity<Response> getReservationsByUserAndStatusPage(
+            @PageableDefault(page = 0, size = 20, sort = "startDate") Pageable pageable,
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "status", defaultValue = "true") boolean status) {
+        Page<ReservationResponseDto> reservations = reservationService.findByUserIdAndStatus(userId, status, pageable);
+        return ResponseEntity.ok(new Response(true, HttpStatus.OK, PageResponseDto.of(reservations)));
+    }
+
     @PostMapping("/create")
     public ResponseEntity<Response> createReservation(@RequestBody @Valid ReservationRequestDto reservationRequestDto) {
         Response response = new Response(true, HttpStatus.OK, reservationService.create(reservationRequestDto));
@@ -4,12 +4,14 @@ import com.proyecto.turisteando.dtos.requestDto.ReviewRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.ReviewResponseDto;
 import com.proyecto.turisteando.dtos.responseDto.UserResponseDto;
 import com.proyecto.turisteando.services.IReviewService;
+import com.proyecto.turisteando.utils.ETags;
 import com.proyecto.turisteando.utils.Response;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,13 +46,15 @@ public class ReviewController {
     }
 
     @PutMapping("/update/{id}")
-    public ResponseEntity<Response> updateReview(@PathVariable Long id, @RequestBody @Valid ReviewRequestDto reviewDto) {
+    public ResponseEntity<Response> updateReview(@PathVariable Long id, @RequestBody @Valid ReviewRequestDto reviewDto,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ReviewResponseDto updatedReview = reviewService.update(reviewDto, id, ETags.expectedVersions(ifMatch));
         Response response = new Response(
                 true,
                 HttpStatus.OK,
-                reviewService.update(reviewDto, id)
+                updatedReview
         );
-        return ResponseEntity.ok(response);
+        return ETags.ok(updatedReview).body(response);
     }
 
     @DeleteMapping("/delete/{id}")
@@ -152,11 +156,12 @@ public class ReviewController {
 
     @GetMapping("/{id}")
     public ResponseEntity<Response> getReviewById(@PathVariable Long id) {
+        ReviewResponseDto review = reviewService.read(id);
         Response response = new Response(
                 true,
                 HttpStatus.OK,
-                reviewService.read(id)
+                review
         );
-        return ResponseEntity.ok(response);
+        return ETags.ok(review).body(response);
     }
 }
@@ -1,14 +1,19 @@
 package com.proyecto.turisteando.controllers;
 
+import com.proyecto.turisteando.auth.AuthenticatedUser;
 import com.proyecto.turisteando.dtos.requestDto.TouristPlanRequestDto;
 import com.proyecto.turisteando.dtos.requestDto.UserFavoriteTouristPlanRequestDto;
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanImportResponseDto;
 import com.proyecto.turisteando.dtos.responseDto.TouristPlanResponseDto;
 import com.proyecto.turisteando.entities.TouristPlanEntity;
-import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.services.ITouristPlanImportService;
 import com.proyecto.turisteando.services.ITouristPlanService;
+import com.proyecto.turisteando.utils.ETags;
 import com.proyecto.turisteando.utils.Response;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.catalina.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +22,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +33,9 @@ public class TouristPlanController {
     @Autowired
     private ITouristPlanService touristPlanService;
 
+    @Autowired
+    private ITouristPlanImportService touristPlanImportService;
+
     @PostMapping(value = "/create", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Response> createTouristPlan(
             @Validated @RequestPart("touristPlan") TouristPlanRequestDto touristPlan,
@@ -39,10 +48,23 @@ public class TouristPlanController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Bulk import of tourist plans from CSV (with a header row) or NDJSON, streamed from the request body.
+     * Cities, categories and characteristics are referenced by name and images by URL; in CSV the
+     * characteristics and images columns separate their values with {@code |}.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<Response> importTouristPlans(HttpServletRequest request) throws IOException {
+        ITouristPlanImportService.ImportFormat format = ITouristPlanImportService.ImportFormat.fromContentType(request.getContentType());
+        TouristPlanImportResponseDto result = touristPlanImportService.importTouristPlans(request.getInputStream(), format);
+        Response response = new Response(true, HttpStatus.OK, result);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response> getTouristPlan(@PathVariable Long id) {
-        Response response = new Response(true, HttpStatus.OK, touristPlanService.read(id));
-        return ResponseEntity.ok(response);
+        TouristPlanResponseDto touristPlan = touristPlanService.read(id);
+        return ETags.ok(touristPlan).body(new Response(true, HttpStatus.OK, touristPlan));
     }
 
     @GetMapping("/all")
@@ -70,8 +92,8 @@ public class TouristPlanController {
     }
 
     @GetMapping("/allfavoritesbyuser")
-    public ResponseEntity<Response> findAllFavoritesByUser(@AuthenticationPrincipal UserEntity user) {
-        List<TouristPlanResponseDto> touristPlans = touristPlanService.findAllFavoritesByUser(user);
+    public ResponseEntity<Response> findAllFavoritesByUser(@AuthenticationPrincipal AuthenticatedUser user) {
+        List<TouristPlanResponseDto> touristPlans = touristPlanService.findAllFavoritesByUser(user.getId());
         Response response = new Response(true, HttpStatus.OK, touristPlans);
         return ResponseEntity.ok(response);
     }
@@ -95,6 +117,7 @@ public class TouristPlanController {
     public ResponseEntity<Response> updateTouristPlan(
             @RequestPart("touristPlan") TouristPlanRequestDto touristPlan,
             @RequestPart(value = "images", required = false) List<MultipartFile> images,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @PathVariable Long id) {
 
         // Añadir las imágenes al DTO solo si están presentes
@@ -102,10 +125,10 @@ public class TouristPlanController {
             touristPlan.setMultipartImages(images);
         }
 
-        TouristPlanResponseDto updatedTouristPlan = touristPlanService.update(touristPlan, id);
+        TouristPlanResponseDto updatedTouristPlan = touristPlanService.update(touristPlan, id, ETags.expectedVersions(ifMatch));
         Response response = new Response(true, HttpStatus.OK, updatedTouristPlan);
 
-        return ResponseEntity.ok(response);
+        return ETags.ok(updatedTouristPlan).body(response);
     }
 
     @DeleteMapping("/delete/{id}")
@@ -3,8 +3,10 @@ package com.proyecto.turisteando.controllers;
 import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.UserResponseDto;
 import com.proyecto.turisteando.services.IUserService;
+import com.proyecto.turisteando.utils.ETags;
 import com.proyecto.turisteando.utils.Response;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -39,7 +41,8 @@ public class UserController {
 
     @GetMapping("/{id}")
     public ResponseEntity<Response> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(new Response(true, HttpStatus.OK, userService.read(id)));
+        UserResponseDto userResponseDto = userService.read(id);
+        return ETags.ok(userResponseDto).body(new Response(true, HttpStatus.OK, userResponseDto));
     }
 
     @GetMapping("/current-user")
@@ -48,9 +51,10 @@ public class UserController {
     }
 
     @PatchMapping("/update/{id}")
-    public ResponseEntity<Response> updateUser(@PathVariable Long id, @RequestBody UserRequestDto userRequestDto) {
-        UserResponseDto userResponseDto = userService.update(userRequestDto, id);
-        return ResponseEntity.ok(new Response(true, HttpStatus.OK, userResponseDto));
+    public ResponseEntity<Response> updateUser(@PathVariable Long id, @RequestBody UserRequestDto userRequestDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDto userResponseDto = userService.update(userRequestDto, id, ETags.expectedVersions(ifMatch));
+        return ETags.ok(userResponseDto).body(new Response(true, HttpStatus.OK, userResponseDto));
     }
 
     @PatchMapping("/toggle-status/{id}")
@@ -0,0 +1,35 @@
+package com.proyecto.turisteando.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Target of a connection when the read replica is configured. Read-only transactions go to
+ * {@link #REPLICA} unless the code running them asked for the primary with {@link #onPrimary}.
+ */
+public enum DataSourceRoute {
+    PRIMARY, REPLICA;
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    /**
+     * Runs the action with its reads routed to the primary. It must wrap the first statement of the
+     * transaction: the connection is chosen then and kept until the transaction ends.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
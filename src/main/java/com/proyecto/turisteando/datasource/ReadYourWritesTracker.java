@@ -0,0 +1,52 @@
+package com.proyecto.turisteando.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes for data a user has just changed. After a write, the user's reads of that data go
+ * to the primary for {@code datasource.replica.read-your-writes-window}, long enough for the replica
+ * to catch up; afterwards they return to the replica. Without a replica it does nothing.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean replicaEnabled;
+    private final long windowNanos;
+    private final ConcurrentHashMap<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${datasource.replica.enabled}") boolean replicaEnabled,
+                                 @Value("${datasource.replica.read-your-writes-window}") Duration window) {
+        this.replicaEnabled = replicaEnabled;
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long userId) {
+        if (replicaEnabled && userId != null) {
+            lastWrites.put(userId, System.nanoTime());
+        }
+    }
+
+    /** Runs the read on the primary if the user wrote within the window, on the usual route otherwise. */
+    public <T> T read(Long userId, Supplier<T> action) {
+        if (!replicaEnabled || userId == null) {
+            return action.get();
+        }
+        Long lastWrite = lastWrites.get(userId);
+        if (lastWrite != null && System.nanoTime() - lastWrite < windowNanos) {
+            return DataSourceRoute.onPrimary(action);
+        }
+        return action.get();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+}
@@ -0,0 +1,89 @@
+package com.proyecto.turisteando.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+/**
+ * Measures how far behind the primary the replica is and decides whether reads may use it. The check
+ * runs on the replica pool every {@code datasource.replica.lag-check-interval-ms}; a failed check
+ * counts as unusable, so reads go back to the primary until the replica answers again.
+ * <p>
+ * A database that is not replicating (for example a second local instance used for testing) reports
+ * no lag. A replica that lost its connection to the primary reports infinite lag on both vendors.
+ */
+@Slf4j
+class ReplicaLagMonitor {
+
+    // Sin receptor de WAL conectado la réplica quedó detenida (infinito, como Seconds_Behind_Source nulo en
+    // MySQL); el estado solo es visible con pg_read_all_stats, sin ese rol basta con que el receptor exista.
+    // Conectada y sin WAL pendiente de aplicar, el retraso es 0 aunque la última transacción aplicada sea antigua
+    private static final String POSTGRESQL_LAG = "select case when pg_is_in_recovery() = false then 0 "
+            + "when not exists (select 1 from pg_stat_wal_receiver "
+            + "where coalesce(status, 'streaming') = 'streaming') then 'Infinity'::float8 "
+            + "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final boolean mysql;
+
+    private volatile double lagSeconds;
+    private volatile boolean usable;
+
+    ReplicaLagMonitor(DataSource replica, String jdbcUrl, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.mysql = jdbcUrl.startsWith("jdbc:mysql:");
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Retraso de la réplica respecto de la primaria")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 si las lecturas pueden ir a la réplica")
+                .register(meterRegistry);
+    }
+
+    boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms}")
+    void checkLag() {
+        boolean wasUsable = usable;
+        try {
+            lagSeconds = mysql ? mysqlLag() : postgresqlLag();
+            usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (Exception e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            log.warn("No se pudo medir el retraso de la réplica: {}", e.getMessage());
+        }
+        if (wasUsable != usable) {
+            log.info(usable ? "Réplica disponible (retraso {} s), las lecturas vuelven a la réplica"
+                    : "Réplica no disponible (retraso {} s), las lecturas van a la primaria", lagSeconds);
+        }
+    }
+
+    private double postgresqlLag() {
+        Double lag = replica.queryForObject(POSTGRESQL_LAG, Double.class);
+        return lag != null ? lag : 0;
+    }
+
+    private double mysqlLag() {
+        // Sin filas el servidor no es una réplica; Seconds_Behind_Source nulo significa replicación detenida
+        return replica.query("SHOW REPLICA STATUS", (ResultSet rs) -> {
+            if (!rs.next()) {
+                return 0.0;
+            }
+            long seconds = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? Double.POSITIVE_INFINITY : seconds;
+        });
+    }
+}
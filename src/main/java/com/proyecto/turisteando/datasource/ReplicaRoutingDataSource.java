@@ -0,0 +1,56 @@
+package com.proyecto.turisteando.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Reads fall back
+ * to the primary while the replica is behind by more than the tolerated lag (see
+ * {@link ReplicaLagMonitor}) or when the caller forced it with {@link DataSourceRoute#onPrimary}.
+ * <p>
+ * It must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction manager asks for the connection before it marks the transaction as read-only, and the
+ * proxy postpones the choice until the first statement.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryRoutes = routes(meterRegistry, "primary");
+        this.replicaRoutes = routes(meterRegistry, "replica");
+        this.fallbackRoutes = routes(meterRegistry, "primary-fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (DataSourceRoute.isPrimaryForced() || !lagMonitor.isReplicaUsable()) {
+            fallbackRoutes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("Conexiones entregadas por destino (primaria, réplica o primaria por retraso/lectura propia)")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.proyecto.turisteando.dtos;
+
+/**
+ * Response DTO of an entity under optimistic locking. The version is sent to clients as the ETag
+ * and must come back in If-Match when they update the resource.
+ */
+public interface IVersionedDto {
+
+    Long getVersion();
+}
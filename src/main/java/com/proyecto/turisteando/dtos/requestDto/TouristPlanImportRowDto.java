@@ -0,0 +1,63 @@
+package com.proyecto.turisteando.dtos.requestDto;
+
+import com.proyecto.turisteando.dtos.IDto;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One row of a bulk tourist-plan import (a CSV line or an NDJSON object). City, category and
+ * characteristics are referenced by name and images by URL, so a partner catalog can be loaded
+ * without knowing our ids and without uploading files.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TouristPlanImportRowDto implements IDto {
+
+    @Size(min = 3, max = 100, message = "El título debe tener entre 3 y 100 caracteres")
+    @NotBlank(message = "El título no puede estar vacío")
+    private String title;
+
+    @Size(min = 10, max = 500, message = "La descripción debe tener entre 10 y 500 caracteres")
+    @NotBlank(message = "La descripción no puede estar vacía")
+    private String description;
+
+    @NotNull(message = "El precio no puede estar vacío")
+    @PositiveOrZero(message = "El precio debe ser igual o mayor a cero")
+    private Double price;
+
+    private String seller;
+
+    @NotBlank(message = "La ciudad no puede estar vacía")
+    private String city;
+
+    @NotBlank(message = "La categoría no puede estar vacía")
+    private String category;
+
+    @NotNull(message = "La capacidad no puede estar vacía")
+    @PositiveOrZero(message = "La capacidad debe ser igual o mayor a cero")
+    private Integer capacity;
+
+    @NotNull(message = "La fecha de inicio de disponibilidad no puede estar vacía")
+    @FutureOrPresent(message = "La fecha de inicio de disponibilidad debe ser una fecha futura o presente")
+    private LocalDate availabilityStartDate;
+
+    @NotNull(message = "La fecha de fin de disponibilidad no puede estar vacía")
+    @FutureOrPresent(message = "La fecha de fin de disponibilidad debe ser una fecha futura o presente")
+    private LocalDate availabilityEndDate;
+
+    @NotEmpty(message = "La duración no puede estar vacía")
+    private String duration;
+
+    @NotEmpty(message = "Las características no pueden estar vacías")
+    private List<String> characteristics;
+
+    @NotEmpty(message = "Debe haber entre 1 y 5 imágenes")
+    @Size(max = 5, message = "Debe haber entre 1 y 5 imágenes")
+    private List<@Pattern(regexp = "^https?://\\S+$", message = "Las imágenes deben ser URLs http(s)") String> images;
+}
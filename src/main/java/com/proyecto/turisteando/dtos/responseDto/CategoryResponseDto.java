@@ -1,6 +1,7 @@
 package com.proyecto.turisteando.dtos.responseDto;
 
 import com.proyecto.turisteando.dtos.IDto;
+import com.proyecto.turisteando.dtos.IVersionedDto;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
@@ -8,9 +9,10 @@ import java.io.Serializable;
 
 @Value
 @AllArgsConstructor
-public class CategoryResponseDto implements IDto, Serializable {
+public class CategoryResponseDto implements IDto, IVersionedDto, Serializable {
     Long id;
     String name;
     String description;
     ImageResponseDto image;
+    Long version;
 }
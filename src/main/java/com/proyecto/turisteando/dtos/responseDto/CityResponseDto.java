@@ -3,16 +3,16 @@ package com.proyecto.turisteando.dtos.responseDto;
 import com.proyecto.turisteando.dtos.CountryDto;
 import com.proyecto.turisteando.dtos.IDto;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Value;
 
 import java.io.Serializable;
 
-@Data
+@Value
 @AllArgsConstructor
 public class CityResponseDto implements IDto, Serializable {
 
-    private Long id;
-    private String name;
-    private CountryDto country;
+    Long id;
+    String name;
+    CountryDto country;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.proyecto.turisteando.dtos.responseDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Stable JSON shape for a page of results, instead of serializing Spring Data's {@code PageImpl}.
+ * A {@link Slice} has no total count, so {@code totalElements} and {@code totalPages} are omitted.
+ */
+@Value
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponseDto<T> {
+
+    List<T> content;
+    int page;
+    int size;
+    boolean hasNext;
+    Long totalElements;
+    Integer totalPages;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+
+    public static <T> PageResponseDto<T> of(Slice<T> slice) {
+        return new PageResponseDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.proyecto.turisteando.dtos.responseDto;
 
 import com.proyecto.turisteando.dtos.IDto;
+import com.proyecto.turisteando.dtos.IVersionedDto;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
@@ -9,11 +10,12 @@ import java.util.Date;
 
 @Value
 @AllArgsConstructor
-public class ReviewResponseDto implements Serializable, IDto {
+public class ReviewResponseDto implements Serializable, IDto, IVersionedDto {
 
     Long idReview;
     int rating;
     Date date;
     String comment;
     UserResponseDto user;
+    Long version;
 }
@@ -0,0 +1,26 @@
+package com.proyecto.turisteando.dtos.responseDto;
+
+import com.proyecto.turisteando.dtos.IDto;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@AllArgsConstructor
+public class TouristPlanImportResponseDto implements IDto {
+
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+    // true si hubo más filas con error de las que se detallan en errors
+    private boolean errorsTruncated;
+
+    @Value
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -2,6 +2,7 @@ package com.proyecto.turisteando.dtos.responseDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.proyecto.turisteando.dtos.IDto;
+import com.proyecto.turisteando.dtos.IVersionedDto;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,7 +12,7 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
-public class TouristPlanResponseDto implements IDto {
+public class TouristPlanResponseDto implements IDto, IVersionedDto {
 
     private Long id;
     private String title;
@@ -34,6 +35,7 @@ public class TouristPlanResponseDto implements IDto {
     private Integer totalStars;
     private Double rating; // Este será calculado en el mapper
     private boolean isActive;
+    private Long version;
 
     @JsonProperty("isFavorite")
     private boolean isFavorite;
@@ -1,11 +1,12 @@
 package com.proyecto.turisteando.dtos.responseDto;
 
+import com.proyecto.turisteando.dtos.IVersionedDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
 @AllArgsConstructor
-public class UserResponseDto {
+public class UserResponseDto implements IVersionedDto {
 
     private Long id;
     private String name;
@@ -13,6 +14,7 @@ public class UserResponseDto {
     private String email;
     private String role;
     private Boolean isActive;
+    private Long version;
 
 
 }
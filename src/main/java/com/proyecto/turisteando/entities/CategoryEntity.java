@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 
@@ -22,6 +25,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Table(name = "category")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
+@DynamicUpdate
 public class CategoryEntity {
 
     @Id
@@ -43,6 +49,10 @@ public class CategoryEntity {
     @JoinColumn(name = "image_id", referencedColumnName = "id")
     private ImageEntity image;
 
+    // Se expone como ETag en la API
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.status = 1;
@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -18,6 +20,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Table(name = "characteristic")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "characteristic")
 public class CharacteristicEntity {
 
     @Id
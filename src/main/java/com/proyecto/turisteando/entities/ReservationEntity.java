@@ -17,14 +17,19 @@ package com.proyecto.turisteando.entities;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_plan_start_date", columnList = "id_plan, start_date"),
+        @Index(name = "idx_reservation_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_reservation_start_date", columnList = "start_date")
+})
 public class ReservationEntity {
     @Id()
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     @Column(name = "id_reservation")
     private Long id;
 
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_plan", nullable = false)
     private TouristPlanEntity touristPlan;
 
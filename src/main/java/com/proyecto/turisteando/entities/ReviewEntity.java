@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.Date;
 
@@ -16,10 +17,12 @@ import java.util.Date;
 @Builder
 @Data
 @Table(name = "reviews")
+@DynamicUpdate
 public class ReviewEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +44,9 @@ public class ReviewEntity {
 
     private Byte status;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.date = new Date();
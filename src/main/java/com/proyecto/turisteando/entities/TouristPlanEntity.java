@@ -7,6 +7,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -21,10 +23,20 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Table(name = "tourist_plan")
+@DynamicUpdate
+@NamedEntityGraph(name = "TouristPlanEntity.listing", attributeNodes = {
+        @NamedAttributeNode(value = "city", subgraph = "city"),
+        @NamedAttributeNode(value = "category", subgraph = "category"),
+        @NamedAttributeNode("images")
+}, subgraphs = {
+        @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("country")),
+        @NamedSubgraph(name = "category", attributeNodes = @NamedAttributeNode("image"))
+})
 public class TouristPlanEntity {
 
     @Id()
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tourist_plan_seq")
+    @SequenceGenerator(name = "tourist_plan_seq", sequenceName = "tourist_plan_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 100, unique = true, nullable = false)
@@ -70,17 +82,23 @@ public class TouristPlanEntity {
     @OneToMany(mappedBy = "touristPlan", cascade = CascadeType.ALL)
     @JsonIgnoreProperties("touristPlan") // Evitar recursión al serializar
     @JsonManagedReference // Manejar relaciones bidireccionales
+    @OptimisticLock(excluded = true)
     private List<ReviewEntity> reviews;
 
+    // Los contadores de reseñas los actualizan los usuarios al opinar: quedan fuera del bloqueo
+    // optimista para que una reseña no invalide la edición del plan que esté haciendo un administrador
     @Column(nullable = false)
+    @OptimisticLock(excluded = true)
     private Integer totalReviews; // Cantidad total de reseñas para obtener el rating
 
     @Column(nullable = false)
+    @OptimisticLock(excluded = true)
     private Integer totalStars; // Suma total de las estrellas para obtener el rating
 
     // Relación muchos a muchos con los usuarios que tienen este plan como favorito
     @ManyToMany(mappedBy = "favoritesTouristPlans" )
     @JsonIgnore
+    @OptimisticLock(excluded = true)
     private Set<UserEntity> usersFavorites;
 
     private boolean isActive;
@@ -93,6 +111,10 @@ public class TouristPlanEntity {
     @Column(insertable = false)
     private LocalDateTime updatedAt;
 
+    // Bloqueo optimista: dos ediciones concurrentes no se pisan, la segunda falla con conflicto
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate(){
         if (this.totalReviews == null) {
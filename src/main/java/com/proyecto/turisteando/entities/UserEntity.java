@@ -4,6 +4,8 @@ import com.proyecto.turisteando.entities.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,10 +22,12 @@ import java.util.*;
 @ToString
 @EqualsAndHashCode
 @Table(name = "user")
+@DynamicUpdate
 public class UserEntity implements UserDetails {
 
     @Id()
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -32,6 +36,7 @@ public class UserEntity implements UserDetails {
     @Column(unique = true)
     private String email;
 
+    @ToString.Exclude
     private String password;
 
     private Role role;
@@ -45,6 +50,9 @@ public class UserEntity implements UserDetails {
             inverseJoinColumns = @JoinColumn(name = "tourist_plan_id"),
             uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "tourist_plan_id"})
     )
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OptimisticLock(excluded = true) // marcar favoritos no compite con la edición del perfil
     private Set<TouristPlanEntity> favoritesTouristPlans;
 
     private Boolean isActive;
@@ -57,6 +65,10 @@ public class UserEntity implements UserDetails {
     @Column(insertable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.isActive = true;
@@ -0,0 +1,45 @@
+package com.proyecto.turisteando.events;
+
+import com.proyecto.turisteando.services.FileUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Deletes Cloudinary images once the transaction that stopped referencing them has finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageCleanupListener {
+
+    private final FileUploadService fileUploadService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void deleteReplacedImages(ImagesReplacedEvent event) {
+        delete(event.replacedUrls());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void deleteOrphanedUploads(ImagesReplacedEvent event) {
+        delete(event.uploadedUrls());
+    }
+
+    private void delete(List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        try {
+            fileUploadService.deleteExistingImages(imageUrls);
+        } catch (Exception e) {
+            log.error("No se pudieron eliminar las imágenes {} de Cloudinary: {}", imageUrls, e.getMessage());
+        }
+    }
+}
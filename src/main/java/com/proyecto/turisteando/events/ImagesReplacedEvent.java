@@ -0,0 +1,22 @@
+package com.proyecto.turisteando.events;
+
+import java.util.List;
+
+/**
+ * Published by the services that store Cloudinary images. The uploads happen before any database
+ * work, and the remote deletes wait for the outcome of the transaction:
+ * after commit the replaced images are deleted, after a rollback the freshly uploaded ones are.
+ *
+ * @param replacedUrls Images that are no longer referenced once the transaction commits.
+ * @param uploadedUrls Images uploaded for this transaction, orphaned if it rolls back.
+ */
+public record ImagesReplacedEvent(List<String> replacedUrls, List<String> uploadedUrls) {
+
+    public static ImagesReplacedEvent replaced(List<String> replacedUrls) {
+        return new ImagesReplacedEvent(replacedUrls, List.of());
+    }
+
+    public static ImagesReplacedEvent uploaded(List<String> uploadedUrls) {
+        return new ImagesReplacedEvent(List.of(), uploadedUrls);
+    }
+}
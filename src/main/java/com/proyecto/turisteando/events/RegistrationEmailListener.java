@@ -0,0 +1,32 @@
+package com.proyecto.turisteando.events;
+
+import com.proyecto.turisteando.services.implement.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends the registration email outside the request and after the commit, so the SMTP round trip
+ * neither holds a database connection nor makes the registration fail.
+ */
+@Slf4j
+@EnableAsync
+@Component
+@RequiredArgsConstructor
+public class RegistrationEmailListener {
+
+    private final EmailService emailService;
+
+    @Async
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        try {
+            emailService.sendHtmlTemplate(event.email(), event.name(), event.lastName());
+        } catch (Exception e) {
+            log.error("No se pudo enviar el correo de confirmación a {}: {}", event.email(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.proyecto.turisteando.events;
+
+/**
+ * Published by {@code AuthService.register}; the confirmation email is sent once the user is committed.
+ */
+public record UserRegisteredEvent(String email, String name, String lastName) {
+}
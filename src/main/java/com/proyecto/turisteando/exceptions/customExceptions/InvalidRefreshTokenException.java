@@ -0,0 +1,8 @@
+package com.proyecto.turisteando.exceptions.customExceptions;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
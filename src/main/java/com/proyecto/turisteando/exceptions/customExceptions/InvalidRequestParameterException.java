@@ -0,0 +1,11 @@
+package com.proyecto.turisteando.exceptions.customExceptions;
+
+/**
+ * A request parameter has a value the endpoint cannot accept (e.g. an inverted date range).
+ */
+public class InvalidRequestParameterException extends RuntimeException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
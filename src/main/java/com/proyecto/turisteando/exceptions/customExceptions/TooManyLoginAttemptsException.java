@@ -0,0 +1,8 @@
+package com.proyecto.turisteando.exceptions.customExceptions;
+
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    public TooManyLoginAttemptsException(String message) {
+        super(message);
+    }
+}
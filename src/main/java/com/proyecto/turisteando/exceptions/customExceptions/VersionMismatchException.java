@@ -0,0 +1,11 @@
+package com.proyecto.turisteando.exceptions.customExceptions;
+
+/**
+ * The If-Match version sent by the client is not the current version of the resource.
+ */
+public class VersionMismatchException extends RuntimeException {
+
+    public VersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,7 @@ public class GlobalExceptionHandler {
     private static final String AUTHENTICATION_ERROR = "Error de autenticación. Verifica tus credenciales.";
     private static final String INTERNAL_ERROR = "Error al procesar la solicitud. Intenta más tarde o contacta soporte.";
     private static final String VALIDATION_ERROR = "Verifica los campos ingresados.";
+    private static final String CONCURRENT_UPDATE_ERROR = "El recurso fue modificado por otro usuario al mismo tiempo. Vuelve a cargarlo e intenta de nuevo.";
 
     @ExceptionHandler({
             CharacteristicNotFoundException.class,
@@ -58,6 +60,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<Object> handleInvalidRequestParameterException(InvalidRequestParameterException ex) {
+        log.warn("Parámetro inválido: {}", ex.getMessage());
+        return buildErrorResponse(List.of(VALIDATION_ERROR + " " + ex.getMessage()), ex, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(UnauthorizedActionException.class)
     public ResponseEntity<Object> handleUnauthorizedActionException(UnauthorizedActionException ex) {
         log.warn("Acción no autorizada: {}", ex.getMessage());
@@ -76,6 +84,37 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<Object> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex) {
+        log.warn("Autenticación saturada: {}", ex.getMessage());
+        return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<Object> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException ex) {
+        log.warn("Límite de intentos de login: {}", ex.getMessage());
+        return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Object> handleInvalidRefreshTokenException(InvalidRefreshTokenException ex) {
+        log.warn("Refresh token rechazado: {}", ex.getMessage());
+        return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<Object> handleVersionMismatchException(VersionMismatchException ex) {
+        log.warn("If-Match no coincide: {}", ex.getMessage());
+        return buildErrorResponse(List.of(ex.getMessage()), ex, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Otra transacción confirmó un cambio sobre la misma fila entre la lectura y el UPDATE (@Version)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Conflicto de edición concurrente: {}", ex.getMessage());
+        return buildErrorResponse(List.of(CONCURRENT_UPDATE_ERROR), ex, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(ServiceException.class)
     public ResponseEntity<Object> handleServiceException(ServiceException ex) {
         log.error("Error en el servicio: {}", ex.getMessage(), ex);
@@ -0,0 +1,53 @@
+package com.proyecto.turisteando.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Health indicator for a remote dependency whose check is a network round trip. The result is kept
+ * for a fixed time, so frequent probes and dashboards do not turn into traffic against the upstream,
+ * and concurrent probes share a single check. The check runs under a {@link ReentrantLock} rather than
+ * a monitor, so probes waiting on it do not pin their carrier when running on virtual threads.
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Health cached;
+    private volatile long checkedAt;
+
+    protected CachedHealthIndicator(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Health health = cached;
+        if (health != null && System.nanoTime() - checkedAt < ttlNanos) {
+            return health;
+        }
+        lock.lock();
+        try {
+            if (cached == null || System.nanoTime() - checkedAt >= ttlNanos) {
+                Health.Builder builder = new Health.Builder();
+                try {
+                    check(builder);
+                } catch (Exception e) {
+                    builder.down(e);
+                }
+                cached = builder.withDetail("checkedAt", Instant.now().toString()).build();
+                checkedAt = System.nanoTime();
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected abstract void check(Health.Builder builder) throws Exception;
+}
@@ -0,0 +1,29 @@
+package com.proyecto.turisteando.health;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** Pings the Cloudinary Admin API ({@code cloudinary} in the {@code upstreams} health group). */
+@Component("cloudinaryHealthIndicator")
+@ConditionalOnEnabledHealthIndicator("cloudinary")
+public class CloudinaryHealthIndicator extends CachedHealthIndicator {
+
+    private final Cloudinary cloudinary;
+
+    public CloudinaryHealthIndicator(Cloudinary cloudinary, @Value("${health.upstream.cache-ttl}") Duration ttl) {
+        super(ttl);
+        this.cloudinary = cloudinary;
+    }
+
+    @Override
+    protected void check(Health.Builder builder) throws Exception {
+        cloudinary.api().ping(ObjectUtils.emptyMap());
+        builder.up();
+    }
+}
@@ -0,0 +1,59 @@
+package com.proyecto.turisteando.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Reports the Hikari pool state ({@code dbPool} in the readiness group) from its in-memory counters,
+ * without borrowing a connection. When more threads are waiting for a connection than
+ * {@code health.db-pool.max-pending} the instance is reported OUT_OF_SERVICE, so the load balancer
+ * stops sending it traffic until the queue drains.
+ */
+@Component("dbPoolHealthIndicator")
+@ConditionalOnEnabledHealthIndicator("dbPool")
+public class DataSourcePoolHealthIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+    private final int maxPending;
+
+    public DataSourcePoolHealthIndicator(DataSource dataSource, @Value("${health.db-pool.max-pending}") int maxPending) {
+        this.dataSource = dataSource;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Health.unknown().withDetail("dataSource", dataSource.getClass().getSimpleName()).build();
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withException(e).build();
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.isClosed()) {
+            return Health.down().withDetail("pool", hikari.getPoolName()).withDetail("reason", "pool no iniciado o cerrado").build();
+        }
+        int pending = pool.getThreadsAwaitingConnection();
+        Health.Builder builder = pending > maxPending ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("pool", hikari.getPoolName())
+                .withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("max", hikari.getMaximumPoolSize())
+                .withDetail("pending", pending)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.proyecto.turisteando.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Opens a connection to the SMTP server ({@code smtp} in the {@code upstreams} health group). It
+ * replaces Spring Boot's {@code mail} indicator, which connects on every health request.
+ */
+@Component("smtpHealthIndicator")
+@ConditionalOnEnabledHealthIndicator("smtp")
+public class SmtpHealthIndicator extends CachedHealthIndicator {
+
+    private final JavaMailSender mailSender;
+
+    public SmtpHealthIndicator(JavaMailSender mailSender, @Value("${health.upstream.cache-ttl}") Duration ttl) {
+        super(ttl);
+        this.mailSender = mailSender;
+    }
+
+    @Override
+    protected void check(Health.Builder builder) throws Exception {
+        if (!(mailSender instanceof JavaMailSenderImpl smtp)) {
+            builder.unknown().withDetail("sender", mailSender.getClass().getSimpleName());
+            return;
+        }
+        smtp.testConnection();
+        builder.up().withDetail("host", smtp.getHost() + ":" + smtp.getPort());
+    }
+}
@@ -1,10 +1,12 @@
 package com.proyecto.turisteando.jwt;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +22,7 @@ import java.io.IOException;
  * JwtFilter class is responsible for handling JWT (JSON Web Token) authentication
  * and authorization for the application.
  */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -31,8 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // Check if the request is for authentication or registration
-        if (request.getServletPath().contains("/auth/**")) {
+        // Authentication endpoints (login, register, refresh) never need the access token,
+        // which may already be expired when the client calls /refresh
+        if (request.getServletPath().startsWith("/api/auth/")) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -45,8 +49,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract the username from the JWT token
-        final String username = jwtService.extractUsername(token);
+        // Extract the username from the JWT token. An expired or malformed token leaves the request
+        // unauthenticated: permitAll endpoints still answer, protected ones get a 401 from the entry point
+        final String username;
+        try {
+            username = jwtService.extractUsername(token);
+        } catch (JwtException e) {
+            log.debug("Token de acceso rechazado: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         // Check if the username is valid and the token is not expired
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -4,6 +4,9 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,9 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long expirationTime;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public String generateToken(UserDetails user) {
         return generateToken(new HashMap<>(), user);
     }
@@ -47,11 +53,22 @@ public class JwtService {
     }
 
     public Claims getAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            outcome = "valid";
+            return claims;
+        } finally {
+            sample.stop(Timer.builder("jwt.verify")
+                    .description("Parseo y verificación de firma de los JWT")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 
     public <T> T getClaim(String token, Function<Claims, T> claimsResolver) {
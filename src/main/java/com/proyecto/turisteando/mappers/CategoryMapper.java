@@ -5,13 +5,26 @@ import com.proyecto.turisteando.dtos.requestDto.CategoryRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.CategoryResponseDto;
 import com.proyecto.turisteando.entities.CategoryEntity;
 import org.mapstruct.*;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING)
-public interface CategoryMapper {
-    CategoryEntity toEntity(CategoryRequestDto categoryDto);
+public abstract class CategoryMapper {
 
-    CategoryResponseDto toDto(CategoryEntity categoryEntity);
+    @Autowired
+    protected ReferenceDtoCache referenceDtoCache;
+
+    public abstract CategoryEntity toEntity(CategoryRequestDto categoryDto);
+
+    public CategoryResponseDto toDto(CategoryEntity categoryEntity) {
+        if (categoryEntity == null) {
+            return null;
+        }
+        return referenceDtoCache.get(ReferenceDtoCache.Region.CATEGORY, categoryEntity.getId(), () -> mapToDto(categoryEntity));
+    }
+
+    @Named("uncachedCategory")
+    protected abstract CategoryResponseDto mapToDto(CategoryEntity categoryEntity);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    CategoryEntity partialUpdate(CategoryRequestDto categoryDto, @MappingTarget CategoryEntity categoryEntity);
+    public abstract CategoryEntity partialUpdate(CategoryRequestDto categoryDto, @MappingTarget CategoryEntity categoryEntity);
 }
@@ -6,18 +6,33 @@ import com.proyecto.turisteando.dtos.responseDto.CharacteristicResponseDto;
 import com.proyecto.turisteando.entities.CharacteristicEntity;
 
 import org.mapstruct.*;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING)
-public interface CharacteristicMapper {
-    CharacteristicEntity toEntity(CharacteristicRequestDto characteristicDto);
+public abstract class CharacteristicMapper {
 
-    CharacteristicResponseDto toDto(CharacteristicEntity characteristicEntity);
-    List<CharacteristicResponseDto> toDtoList(List<CharacteristicEntity> characteristicEntityList);
+    @Autowired
+    protected ReferenceDtoCache referenceDtoCache;
+
+    public abstract CharacteristicEntity toEntity(CharacteristicRequestDto characteristicDto);
+
+    public CharacteristicResponseDto toDto(CharacteristicEntity characteristicEntity) {
+        if (characteristicEntity == null) {
+            return null;
+        }
+        return referenceDtoCache.get(ReferenceDtoCache.Region.CHARACTERISTIC, characteristicEntity.getId(),
+                () -> mapToDto(characteristicEntity));
+    }
+
+    @Named("uncachedCharacteristic")
+    protected abstract CharacteristicResponseDto mapToDto(CharacteristicEntity characteristicEntity);
+
+    public abstract List<CharacteristicResponseDto> toDtoList(List<CharacteristicEntity> characteristicEntityList);
 
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    CharacteristicEntity partialUpdate(CharacteristicRequestDto characteristicDto, @MappingTarget CharacteristicEntity characteristicEntity);
+    public abstract CharacteristicEntity partialUpdate(CharacteristicRequestDto characteristicDto, @MappingTarget CharacteristicEntity characteristicEntity);
 
 }
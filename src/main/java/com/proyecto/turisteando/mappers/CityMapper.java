@@ -6,23 +6,35 @@ import com.proyecto.turisteando.entities.CityEntity;
 import com.proyecto.turisteando.entities.CountryEntity;
 import com.proyecto.turisteando.services.implement.CountryServiceImpl;
 import org.mapstruct.*;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = "spring", uses = {CountryMapper.class, CountryServiceImpl.class})
-public interface CityMapper {
+public abstract class CityMapper {
+
+    @Autowired
+    protected ReferenceDtoCache referenceDtoCache;
 
     @Mapping(target = "country", source = "countryId")
-    CityEntity toEntity(CityRequestDto cityRequestDto);
+    public abstract CityEntity toEntity(CityRequestDto cityRequestDto);
+
+    public CityResponseDto toDto(CityEntity cityEntity) {
+        if (cityEntity == null) {
+            return null;
+        }
+        return referenceDtoCache.get(ReferenceDtoCache.Region.CITY, cityEntity.getId(), () -> mapToDto(cityEntity));
+    }
 
-    CityResponseDto toDto(CityEntity cityEntity);
+    @Named("uncachedCity")
+    protected abstract CityResponseDto mapToDto(CityEntity cityEntity);
 
-    List<CityResponseDto> toDtoList(List<CityEntity> cityEntityList);
+    public abstract List<CityResponseDto> toDtoList(List<CityEntity> cityEntityList);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    CityEntity partialUpdate(CityRequestDto cityRequestDto, @MappingTarget CityEntity cityEntity);
+    public abstract CityEntity partialUpdate(CityRequestDto cityRequestDto, @MappingTarget CityEntity cityEntity);
 
-    default CountryEntity getCountryById(Long countryId, @Context CountryServiceImpl countryService) {
+    public CountryEntity getCountryById(Long countryId, @Context CountryServiceImpl countryService) {
         return countryService.getCountry(countryId);
     }
 
@@ -1,5 +1,6 @@
 package com.proyecto.turisteando.mappers;
 
+import com.proyecto.turisteando.auth.AuthenticatedUser;
 import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.UserResponseDto;
 import com.proyecto.turisteando.entities.UserEntity;
@@ -15,6 +16,8 @@ public interface IUserMapper {
 
     UserResponseDto toDto(UserEntity userEntity);
 
+    UserResponseDto toDto(AuthenticatedUser authenticatedUser);
+
     Iterable<UserResponseDto> toDtoList(List<UserEntity> userEntityList);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
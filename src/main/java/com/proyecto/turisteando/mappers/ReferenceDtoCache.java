@@ -0,0 +1,119 @@
+package com.proyecto.turisteando.mappers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the immutable DTOs of reference data (cities, categories, characteristics), keyed by
+ * entity id. Listings of tourist plans repeat the same few cities and categories hundreds of times,
+ * so the mappers return the shared DTO instead of building a new one for every plan.
+ * <p>
+ * Each region has a generation counter. Write paths call {@link #invalidate(Region)}, which bumps
+ * the generation right away and once more after the transaction commits, so a DTO mapped from data
+ * read before the commit is never served afterwards. With the read replica enabled, reads right after
+ * the commit may still see the old rows on the replica, so the generation is bumped a third time once
+ * {@code datasource.replica.max-lag} has passed (beyond that lag reads go to the primary anyway).
+ */
+@Component
+public class ReferenceDtoCache {
+
+    private static final int MAX_ENTRIES_PER_REGION = 10_000;
+
+    public enum Region {
+        CITY, CATEGORY, CHARACTERISTIC
+    }
+
+    private record Entry(long generation, Object dto) {
+    }
+
+    private static final class RegionCache {
+        private final AtomicLong generation = new AtomicLong();
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    }
+
+    private final Map<Region, RegionCache> regions = new EnumMap<>(Region.class);
+    private final TaskScheduler taskScheduler;
+    private final boolean replicaEnabled;
+    private final Duration replicaMaxLag;
+
+    public ReferenceDtoCache(TaskScheduler taskScheduler,
+                             @Value("${datasource.replica.enabled}") boolean replicaEnabled,
+                             @Value("${datasource.replica.max-lag}") Duration replicaMaxLag) {
+        this.taskScheduler = taskScheduler;
+        this.replicaEnabled = replicaEnabled;
+        this.replicaMaxLag = replicaMaxLag;
+        for (Region region : Region.values()) {
+            regions.put(region, new RegionCache());
+        }
+    }
+
+    /**
+     * Returns the cached DTO for the entity, or maps it with the given function and caches the result.
+     *
+     * @param region The type of the entity.
+     * @param id     The ID of the entity; entities without ID are never cached.
+     * @param mapper The uncached mapping.
+     * @return The DTO of the entity.
+     */
+    @SuppressWarnings("unchecked")
+    public <D> D get(Region region, Long id, Supplier<D> mapper) {
+        if (id == null) {
+            return mapper.get();
+        }
+        RegionCache cache = regions.get(region);
+        long generation = cache.generation.get();
+
+        Entry entry = cache.entries.get(id);
+        if (entry != null && entry.generation() == generation) {
+            return (D) entry.dto();
+        }
+
+        D dto = mapper.get();
+        if (cache.entries.size() < MAX_ENTRIES_PER_REGION) {
+            cache.entries.put(id, new Entry(generation, dto));
+        }
+        return dto;
+    }
+
+    /**
+     * Discards every cached DTO of the region. Must be called by the write paths of the entity.
+     */
+    public void invalidate(Region region) {
+        RegionCache cache = regions.get(region);
+        bump(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(cache);
+                    if (replicaEnabled) {
+                        taskScheduler.schedule(() -> bump(cache), Instant.now().plus(replicaMaxLag));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Current generation of the region, for callers that derive their own caches from these DTOs.
+     */
+    public long generation(Region region) {
+        return regions.get(region).generation.get();
+    }
+
+    private void bump(RegionCache cache) {
+        cache.generation.incrementAndGet();
+        cache.entries.clear();
+    }
+}
@@ -1,7 +1,10 @@
 package com.proyecto.turisteando.repositories;
 
 import com.proyecto.turisteando.entities.CategoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +16,10 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
      * @param i Status of the category. 1 means active, 0 means inactive.
      * @return List of active categories.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+    })
     List<CategoryEntity> findByStatus(byte i);
 
     /**
@@ -2,7 +2,10 @@ package com.proyecto.turisteando.repositories;
 
 
 import com.proyecto.turisteando.entities.CharacteristicEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +17,10 @@ public interface CharacteristicRepository extends JpaRepository<CharacteristicEn
      * @param i Status of the category. 1 means active, 0 means inactive.
      * @return List of active categories.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+    })
     List<CharacteristicEntity> findByStatus(byte i);
 
     /**
@@ -1,7 +1,9 @@
 package com.proyecto.turisteando.repositories;
 
+import com.proyecto.turisteando.auth.AuthenticatedUser;
 import com.proyecto.turisteando.entities.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +12,23 @@ public interface IUserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
 
+    /**
+     * Loads only the columns needed to authenticate a user (id, email, password hash, role and status)
+     * and to answer the login (name, last name and version).
+     *
+     * @param email The email of the user.
+     * @return An Optional containing the authentication view if found, otherwise an empty Optional.
+     */
+    @Query("SELECT new com.proyecto.turisteando.auth.AuthenticatedUser(u.id, u.email, u.password, u.role, u.isActive, " +
+            "u.name, u.lastName, u.version) " +
+            "FROM UserEntity u WHERE u.email = ?1")
+    Optional<AuthenticatedUser> findAuthenticatedUserByEmail(String email);
+
+    @Query("SELECT new com.proyecto.turisteando.auth.AuthenticatedUser(u.id, u.email, u.password, u.role, u.isActive, " +
+            "u.name, u.lastName, u.version) " +
+            "FROM UserEntity u WHERE u.id = ?1")
+    Optional<AuthenticatedUser> findAuthenticatedUserById(Long id);
+
     List<UserEntity> findByIsActiveTrue();
 
 }
@@ -0,0 +1,33 @@
+package com.proyecto.turisteando.repositories;
+
+import com.proyecto.turisteando.entities.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks a token as used. The condition on {@code revoked} makes the rotation atomic:
+     * when two requests present the same token only one of them gets 1 as result.
+     *
+     * @param id The ID of the token.
+     * @return The number of updated rows (1 if the token was still active, 0 otherwise).
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revoked = true WHERE t.id = ?1 AND t.revoked = false")
+    int revokeIfActive(Long id);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revoked = true WHERE t.familyId = ?1 AND t.revoked = false")
+    int revokeFamily(String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < ?1")
+    int deleteExpired(LocalDateTime now);
+}
@@ -1,10 +1,19 @@
 package com.proyecto.turisteando.repositories;
 
+import com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto;
 import com.proyecto.turisteando.entities.ReservationEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 public interface ReservationRepository extends JpaRepository <ReservationEntity, Long> {
@@ -14,6 +23,32 @@ public interface ReservationRepository extends JpaRepository <ReservationEntity,
     List<ReservationEntity> findByUserIdAndStatus(Long userId, boolean status);
     boolean existsByUserIdAndTouristPlanId(Long userId, Long touristPlanId);
 
-}
-
+    Page<ReservationEntity> findByTouristPlanId(Long touristPlanId, Pageable pageable);
+    Page<ReservationEntity> findByUserIdAndStatus(Long userId, boolean status, Pageable pageable);
+
+    /**
+     * Date ranges can match a large part of the table, so this returns a Slice:
+     * it fetches one extra row to know if there is a next page instead of running a count query.
+     */
+    Slice<ReservationEntity> findByStartDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * Streams the reservations whose start date is in the given range, already projected to DTOs.
+     * Rows are read from the cursor in batches of the fetch size and never enter the persistence
+     * context, so memory stays constant regardless of the table size. Must be consumed inside a
+     * transaction and closed afterwards.
+     *
+     * @param startDate The lower bound of the start date (inclusive).
+     * @param endDate   The upper bound of the start date (inclusive).
+     * @return A stream of reservations ordered by ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto(" +
+            "r.id, r.createdAt, r.status, r.startDate, r.endDate, r.peopleCount, r.touristPlan.id, r.user.id) " +
+            "FROM ReservationEntity r WHERE r.startDate BETWEEN ?1 AND ?2 ORDER BY r.id")
+    Stream<ReservationResponseDto> streamByStartDateBetween(LocalDate startDate, LocalDate endDate);
 
+}
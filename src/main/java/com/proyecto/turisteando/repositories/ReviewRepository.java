@@ -3,6 +3,7 @@ package com.proyecto.turisteando.repositories;
 import com.proyecto.turisteando.entities.ReviewEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,8 +12,11 @@ import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long>{
+    @EntityGraph(attributePaths = "user")
     List<ReviewEntity> findByTouristPlanIdAndStatus(Long idPlan, int status);
+    @EntityGraph(attributePaths = "user")
     List<ReviewEntity> findByRatingAndTouristPlanIdAndStatus(int rating, Long idPlan, int status);
+    @EntityGraph(attributePaths = "user")
     Page<ReviewEntity> findByTouristPlanIdAndStatus(Long idPlan, int status, Pageable pageable);
     Page<ReviewEntity> findByUserIdAndStatus(Long idUser, int status, Pageable pageable);
     List<ReviewEntity> findByRating(int rating);
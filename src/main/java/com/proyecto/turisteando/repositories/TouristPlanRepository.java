@@ -2,16 +2,22 @@ package com.proyecto.turisteando.repositories;
 
 import com.proyecto.turisteando.entities.TouristPlanEntity;
 import com.proyecto.turisteando.entities.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TouristPlanRepository extends JpaRepository<TouristPlanEntity, Long> {
+
+    String PLAN_LISTING = "TouristPlanEntity.listing";
   
     boolean existsByCategoryId(Long categoryId);
 
@@ -28,8 +34,22 @@ public interface TouristPlanRepository extends JpaRepository<TouristPlanEntity,
     @Query(value = "DELETE FROM favorites_user_tourist_plan WHERE user_id = ?1 AND tourist_plan_id = ?2", nativeQuery = true)
     void deleteUsersFavorites (Long userId, Long touristPlanId);
 
+    // Plan de carga de los listados: lo que el mapper lee de cada plan, en una sola consulta.
+    // Las características y reseñas se cargan por lotes (hibernate.default_batch_fetch_size).
+    @EntityGraph(PLAN_LISTING)
     List<TouristPlanEntity> findByIsActiveTrue();
 
+    @Override
+    @EntityGraph(PLAN_LISTING)
+    List<TouristPlanEntity> findAll();
+
+    @Override
+    @EntityGraph(PLAN_LISTING)
+    Optional<TouristPlanEntity> findById(Long id);
+
     boolean existsByIdAndUsersFavorites_Id(Long planId, Long userId);
 
+    @Query("SELECT t.title FROM TouristPlanEntity t WHERE t.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
 }
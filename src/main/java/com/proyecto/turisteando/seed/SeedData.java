@@ -0,0 +1,44 @@
+package com.proyecto.turisteando.seed;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Contents of a seed file ({@code classpath:seed/seed-v<version>.json}). Relations are expressed by
+ * natural keys (city and category names, plan titles, user emails) instead of ids, so the file does
+ * not depend on the order in which the database hands out identifiers.
+ */
+public record SeedData(
+        int version,
+        List<Country> countries,
+        List<Category> categories,
+        List<Characteristic> characteristics,
+        List<TouristPlan> touristPlans,
+        List<User> users,
+        List<Review> reviews,
+        List<Reservation> reservations) {
+
+    public record Country(String name, List<String> cities) {
+    }
+
+    public record Category(String name, String description, String image) {
+    }
+
+    public record Characteristic(String name, String icon) {
+    }
+
+    public record TouristPlan(String title, String description, Double price, String seller, String city,
+                              String category, Integer capacity, LocalDate availabilityStartDate,
+                              LocalDate availabilityEndDate, String duration, List<String> characteristics,
+                              List<String> images) {
+    }
+
+    public record User(String name, String lastName, String email, String password, String role) {
+    }
+
+    public record Review(String user, String touristPlan, int rating, String comment) {
+    }
+
+    public record Reservation(String user, String touristPlan, LocalDate startDate, LocalDate endDate, int peopleCount) {
+    }
+}
@@ -0,0 +1,280 @@
+package com.proyecto.turisteando.seed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.turisteando.entities.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the initial data on startup. The applied seed version is recorded in {@code seed_version},
+ * so once a version has been applied a boot costs a single query. A new version is loaded from its
+ * JSON file and inserted table by table with JDBC batch statements, in one transaction. Ids are
+ * assigned here, so relations are resolved in memory, and each id sequence is moved past them at the end.
+ * <p>
+ * Databases seeded by the former DataLoader (data present, no marker) are only marked as applied.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true", matchIfMissing = true)
+public class SeedRunner implements CommandLineRunner {
+
+    private static final String SELECT_VERSION = "select count(*) from seed_version where version = ?";
+    private static final String CREATE_VERSION_TABLE =
+            "create table seed_version (version integer not null primary key, applied_at timestamp not null)";
+    private static final long SEQUENCE_INCREMENT = 50;
+    // Columna @Version: explícita porque con ddl-auto (perfil loadtest) no tiene valor por defecto
+    private static final long INITIAL_VERSION = 0;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${seed.version}")
+    private int version;
+
+    @Value("${seed.resource}")
+    private Resource resource;
+
+    private String quote;
+
+    private boolean mysql;
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (isApplied()) {
+            log.debug("Seed v{} ya aplicado", version);
+            return;
+        }
+
+        long start = System.nanoTime();
+        SeedData seed;
+        try (InputStream input = resource.getInputStream()) {
+            seed = objectMapper.readValue(input, SeedData.class);
+        }
+        if (seed.version() != version) {
+            throw new IllegalStateException("El archivo " + resource + " corresponde al seed v" + seed.version()
+                    + " y se esperaba v" + version);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> apply(seed));
+        log.info("Seed v{} aplicado en {} ms", version, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isApplied() {
+        try {
+            Integer count = transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForObject(SELECT_VERSION, Integer.class, version));
+            return count != null && count > 0;
+        } catch (BadSqlGrammarException e) {
+            // Primer arranque con el seed versionado: la tabla de control todavía no existe
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(CREATE_VERSION_TABLE));
+            return false;
+        }
+    }
+
+    private void apply(SeedData seed) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            quote = con.getMetaData().getIdentifierQuoteString().trim();
+            mysql = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            return null;
+        });
+
+        Integer existingCountries = jdbcTemplate.queryForObject("select count(*) from " + q("country"), Integer.class);
+        if (existingCountries != null && existingCountries > 0) {
+            log.info("La base ya contiene datos, se registra el seed v{} sin insertar", seed.version());
+            markApplied(seed.version());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        IdAllocator ids = new IdAllocator();
+
+        List<Object[]> countryRows = new ArrayList<>();
+        List<Object[]> cityRows = new ArrayList<>();
+        Map<String, Long> cityIds = new HashMap<>();
+        for (SeedData.Country country : seed.countries()) {
+            long countryId = ids.next("country");
+            countryRows.add(new Object[]{countryId, country.name()});
+            for (String city : country.cities()) {
+                long cityId = ids.next("city");
+                cityIds.put(city, cityId);
+                cityRows.add(new Object[]{cityId, city, countryId});
+            }
+        }
+
+        // Las imágenes de categorías y características no pertenecen a ningún plan
+        List<Object[]> referenceImageRows = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        Map<String, Long> categoryIds = new HashMap<>();
+        for (SeedData.Category category : seed.categories()) {
+            long imageId = ids.next("image");
+            referenceImageRows.add(new Object[]{imageId, category.image(), null, now});
+            long categoryId = ids.next("category");
+            categoryIds.put(category.name(), categoryId);
+            categoryRows.add(new Object[]{categoryId, category.name(), category.description(), (byte) 1, imageId, INITIAL_VERSION});
+        }
+        List<Object[]> characteristicRows = new ArrayList<>();
+        Map<String, Long> characteristicIds = new HashMap<>();
+        for (SeedData.Characteristic characteristic : seed.characteristics()) {
+            long imageId = ids.next("image");
+            referenceImageRows.add(new Object[]{imageId, characteristic.icon(), null, now});
+            long characteristicId = ids.next("characteristic");
+            characteristicIds.put(characteristic.name(), characteristicId);
+            characteristicRows.add(new Object[]{characteristicId, characteristic.name(), (byte) 1, imageId});
+        }
+
+        // Los totales de reseñas se calculan de antemano para que el rating de cada plan sea correcto
+        Map<String, int[]> reviewTotals = new HashMap<>();
+        seed.reviews().forEach(review -> {
+            int[] totals = reviewTotals.computeIfAbsent(review.touristPlan(), title -> new int[2]);
+            totals[0]++;
+            totals[1] += review.rating();
+        });
+        List<Object[]> planRows = new ArrayList<>();
+        List<Object[]> planImageRows = new ArrayList<>();
+        List<Object[]> planCharacteristicRows = new ArrayList<>();
+        Map<String, Long> planIds = new HashMap<>();
+        for (SeedData.TouristPlan plan : seed.touristPlans()) {
+            long planId = ids.next("tourist_plan");
+            planIds.put(plan.title(), planId);
+            int[] totals = reviewTotals.getOrDefault(plan.title(), new int[2]);
+            planRows.add(new Object[]{planId, plan.title(), plan.description(), plan.price(), plan.seller(),
+                    require(cityIds, plan.city()), require(categoryIds, plan.category()), plan.capacity(),
+                    plan.availabilityStartDate(), plan.availabilityEndDate(), plan.duration(),
+                    totals[0], totals[1], true, now, INITIAL_VERSION});
+            plan.images().forEach(url -> planImageRows.add(new Object[]{ids.next("image"), url, planId, now}));
+            plan.characteristics().forEach(name ->
+                    planCharacteristicRows.add(new Object[]{planId, require(characteristicIds, name)}));
+        }
+
+        // Un hash por contraseña distinta: BCrypt es deliberadamente lento
+        Map<String, String> passwordHashes = new HashMap<>();
+        List<Object[]> userRows = new ArrayList<>();
+        Map<String, Long> userIds = new HashMap<>();
+        for (SeedData.User user : seed.users()) {
+            long userId = ids.next("user");
+            userIds.put(user.email(), userId);
+            userRows.add(new Object[]{userId, user.name(), user.lastName(), user.email(),
+                    passwordHashes.computeIfAbsent(user.password(), passwordEncoder::encode),
+                    Role.valueOf(user.role()).ordinal(), true, now, INITIAL_VERSION});
+        }
+
+        List<Object[]> reviewRows = seed.reviews().stream()
+                .map(review -> new Object[]{ids.next("reviews"), require(userIds, review.user()),
+                        require(planIds, review.touristPlan()), review.rating(), review.comment(), now.toLocalDate(), (byte) 1, INITIAL_VERSION})
+                .toList();
+        List<Object[]> reservationRows = seed.reservations().stream()
+                .map(reservation -> new Object[]{ids.next("reservation"), require(planIds, reservation.touristPlan()),
+                        require(userIds, reservation.user()), reservation.startDate(), reservation.endDate(),
+                        reservation.peopleCount(), true, now})
+                .toList();
+
+        // Orden de inserción según las claves foráneas
+        List<String> imageColumns = List.of("id", "image_url", "tourist_plan_id", "created_at");
+        batch("country", List.of("id", "name"), countryRows);
+        batch("city", List.of("id", "name", "country_id"), cityRows);
+        batch("image", imageColumns, referenceImageRows);
+        batch("category", List.of("id", "name", "description", "status", "image_id", "version"), categoryRows);
+        batch("characteristic", List.of("id", "name", "status", "image_id"), characteristicRows);
+        batch("tourist_plan",
+                List.of("id", "title", "description", "price", "seller", "city_id", "category_id", "capacity",
+                        "availability_start_date", "availability_end_date", "duration",
+                        "total_reviews", "total_stars", "is_active", "created_at", "version"),
+                planRows);
+        batch("image", imageColumns, planImageRows);
+        batch("tourist_plan_characteristic", List.of("tourist_plan_id", "characteristic_id"), planCharacteristicRows);
+        batch("user", List.of("id", "name", "last_name", "email", "password", "role", "is_active", "created_at", "version"), userRows);
+        batch("reviews", List.of("id", "user_id", "tourist_plan_id", "rating", "comment", "date", "status", "version"), reviewRows);
+        batch("reservation",
+                List.of("id_reservation", "id_plan", "user_id", "start_date", "end_date", "people_count", "status", "created_at"),
+                reservationRows);
+
+        ids.last.forEach(this::resyncSequence);
+        markApplied(seed.version());
+    }
+
+    private void markApplied(int seedVersion) {
+        jdbcTemplate.update("insert into seed_version (version, applied_at) values (?, ?)", seedVersion, LocalDateTime.now());
+    }
+
+    private void batch(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = "insert into " + q(table)
+                + " (" + columns.stream().map(this::q).collect(Collectors.joining(", ")) + ")"
+                + " values (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * Moves the table's sequence past the ids inserted explicitly. Sequences use Hibernate's pooled
+     * optimizer, where the value read is the upper end of the next block of 50, hence {@code lastId + 50}.
+     * MySQL has no sequences and Hibernate emulates them with a single-row table.
+     */
+    private void resyncSequence(String table, long lastId) {
+        String sequence = table + "_seq";
+        long next = lastId + SEQUENCE_INCREMENT;
+        if (mysql) {
+            jdbcTemplate.update("update " + q(sequence) + " set " + q("next_val") + " = ?", next);
+        } else {
+            jdbcTemplate.execute("alter sequence " + q(sequence) + " restart with " + next);
+        }
+    }
+
+    private static long require(Map<String, Long> ids, String key) {
+        Long id = ids.get(key);
+        if (id == null) {
+            throw new IllegalStateException("El seed hace referencia a un registro inexistente: " + key);
+        }
+        return id;
+    }
+
+    // Las tablas se crean con globally_quoted_identifiers ("user" es palabra reservada)
+    private String q(String identifier) {
+        return quote + identifier + quote;
+    }
+
+    /** Hands out consecutive ids per table, starting at 1, and remembers the last one given. */
+    private static final class IdAllocator {
+
+        private final Map<String, Long> last = new LinkedHashMap<>();
+
+        long next(String table) {
+            return last.merge(table, 1L, Long::sum);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.proyecto.turisteando.services;
 
 import com.proyecto.turisteando.dtos.IDto;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import java.util.Set;
 
 public interface ICategoryService extends ICrudService<IDto, Long> {
+
+    @Transactional
+    IDto update(IDto dto, Long id, Set<Long> expectedVersions);
 }
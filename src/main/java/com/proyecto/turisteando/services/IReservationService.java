@@ -2,7 +2,13 @@ package com.proyecto.turisteando.services;
 
 import com.proyecto.turisteando.dtos.requestDto.ReservationRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto;
+import com.proyecto.turisteando.exceptions.customExceptions.InvalidRequestParameterException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -12,4 +18,44 @@ public interface IReservationService extends CrudService<ReservationRequestDto,
     Iterable<ReservationResponseDto> getReservationsByTouristPlan(Long touristPlanId);
     Iterable<ReservationResponseDto> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     Iterable<ReservationResponseDto> findByUserIdAndStatus(Long userId, boolean status);
+
+    Page<ReservationResponseDto> getReservationsByTouristPlan(Long touristPlanId, Pageable pageable);
+    Slice<ReservationResponseDto> findByStartDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+    Page<ReservationResponseDto> findByUserIdAndStatus(Long userId, boolean status, Pageable pageable);
+
+    /**
+     * Writes the reservations whose start date is in the given range to the output stream,
+     * one row at a time.
+     */
+    void exportReservations(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat fromParam(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new InvalidRequestParameterException("Formato de exportación no soportado: " + value + " (csv o ndjson).");
+        }
+    }
 }
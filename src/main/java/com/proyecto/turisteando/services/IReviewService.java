@@ -4,6 +4,10 @@ import com.proyecto.turisteando.dtos.requestDto.ReviewRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.ReviewResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import java.util.Set;
 
 public interface IReviewService extends CrudService<ReviewRequestDto, ReviewResponseDto, Long>{
     Iterable<ReviewResponseDto> getAllByPlan(Long idPlan);
@@ -12,4 +16,7 @@ public interface IReviewService extends CrudService<ReviewRequestDto, ReviewResp
 
     Page<ReviewResponseDto> getAllByUser(Long idUser, Pageable pageable);
 
+    @Transactional
+    ReviewResponseDto update(ReviewRequestDto dto, Long id, Set<Long> expectedVersions);
+
 }
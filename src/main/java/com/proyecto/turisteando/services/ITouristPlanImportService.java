@@ -0,0 +1,34 @@
+package com.proyecto.turisteando.services;
+
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanImportResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ITouristPlanImportService {
+
+    /**
+     * Reads tourist plans from the input stream one row at a time and persists them in chunks, each
+     * chunk in its own transaction. Invalid rows are skipped and reported; they never abort the import.
+     */
+    TouristPlanImportResponseDto importTouristPlans(InputStream inputStream, ImportFormat format) throws IOException;
+
+    enum ImportFormat {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        ImportFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static ImportFormat fromContentType(String value) {
+            return value != null && value.toLowerCase().startsWith(NDJSON.contentType) ? NDJSON : CSV;
+        }
+    }
+}
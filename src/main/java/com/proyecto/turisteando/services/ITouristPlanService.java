@@ -2,16 +2,21 @@ package com.proyecto.turisteando.services;
 
 import com.proyecto.turisteando.dtos.requestDto.TouristPlanRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.TouristPlanResponseDto;
-import com.proyecto.turisteando.entities.UserEntity;
+
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ITouristPlanService extends CrudService<TouristPlanRequestDto, TouristPlanResponseDto, Long> {
 
     Iterable<TouristPlanResponseDto> getAllByFilters(TouristPlanRequestDto dto);
 
-    List<TouristPlanResponseDto> findAllFavoritesByUser(UserEntity user);
+    @Transactional
+    TouristPlanResponseDto update(TouristPlanRequestDto dto, Long id, Set<Long> expectedVersions);
+
+    List<TouristPlanResponseDto> findAllFavoritesByUser(Long userId);
 
     void addUsersFavorites(Long userId, Long touristPlanId);
 
@@ -5,12 +5,18 @@ import com.proyecto.turisteando.dtos.responseDto.UserResponseDto;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 
+
+import java.util.Set;
+
 public interface IUserService extends CrudService<UserRequestDto, UserResponseDto, Long> {
 
     Iterable<UserResponseDto> getAllByFilters(UserRequestDto dto);
 
     UserResponseDto getCurrentUser(Authentication authentication);
 
+    @Transactional
+    UserResponseDto update(UserRequestDto dto, Long id, Set<Long> expectedVersions);
+
     @Transactional
     UserResponseDto toggleUserRole(Long id);
 }
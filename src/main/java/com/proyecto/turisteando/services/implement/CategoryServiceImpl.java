@@ -4,9 +4,12 @@ import com.proyecto.turisteando.dtos.IDto;
 import com.proyecto.turisteando.dtos.requestDto.CategoryRequestDto;
 import com.proyecto.turisteando.entities.CategoryEntity;
 import com.proyecto.turisteando.entities.ImageEntity;
+import com.proyecto.turisteando.events.ImagesReplacedEvent;
 import com.proyecto.turisteando.exceptions.customExceptions.CategoryNotFoundException;
 import com.proyecto.turisteando.exceptions.customExceptions.UnauthorizedActionException;
+import com.proyecto.turisteando.exceptions.customExceptions.VersionMismatchException;
 import com.proyecto.turisteando.mappers.CategoryMapper;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.repositories.CategoryRepository;
 import com.proyecto.turisteando.repositories.ImageRepository;
 import com.proyecto.turisteando.repositories.TouristPlanRepository;
@@ -18,11 +21,14 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -38,6 +44,7 @@ import java.util.stream.StreamSupport;
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Transactional(readOnly = true)
 public class CategoryServiceImpl implements ICategoryService {
 
     private final CategoryRepository categoryRepository;
@@ -46,6 +53,8 @@ public class CategoryServiceImpl implements ICategoryService {
     private final FileUploadService fileUploadService;
     private final ImageRepository imageRepository;
     private final TouristPlanRepository touristPlanRepository;
+    private final ReferenceDtoCache referenceDtoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all available categories.
@@ -121,7 +130,9 @@ public class CategoryServiceImpl implements ICategoryService {
      * @throws ServiceException If an error occurs during category creation.
      */
     @Override
+    @Transactional
     public IDto create(IDto dto) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
         CategoryRequestDto categoryDto = (CategoryRequestDto) dto;
 
         try {
@@ -130,6 +141,7 @@ public class CategoryServiceImpl implements ICategoryService {
 
             // Subir la imagen y obtener la URL
             String imageUrl = fileUploadService.saveImage(Collections.singletonList(categoryDto.getImage())).get(0);
+            eventPublisher.publishEvent(ImagesReplacedEvent.uploaded(List.of(imageUrl)));
 
             ImageEntity imageEntity = new ImageEntity();
             imageEntity.setImageUrl(imageUrl);
@@ -165,24 +177,47 @@ public class CategoryServiceImpl implements ICategoryService {
      * @throws ServiceException If the specified category is not found or an error occurs during category update.
      */
     @Override
+    @Transactional
     public IDto update(IDto dto, Long id) {
+        return update(dto, id, null);
+    }
+
+    /**
+     * Updates a category only if it is still at the version the client read (If-Match).
+     * A concurrent update committed between this read and the flush is still rejected by
+     * the {@code @Version} check, with an optimistic locking failure.
+     *
+     * @param expectedVersions The versions the client accepts (If-Match), or {@code null} to skip the check.
+     * @throws VersionMismatchException If the category is at none of those versions.
+     */
+    @Override
+    @Transactional
+    public IDto update(IDto dto, Long id, Set<Long> expectedVersions) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
         CategoryRequestDto categoryDto = (CategoryRequestDto) dto;
 
+        // Validar y subir la nueva imagen en cloudinary antes de consultar la base de datos,
+        // así la conexión no queda retenida durante la subida
+        String newImageUrl = null;
+        if (categoryDto.getImage() != null && !categoryDto.getImage().isEmpty()) {
+            fileValidator.validateFiles(Collections.singletonList(categoryDto.getImage()));
+            newImageUrl = fileUploadService.saveImage(Collections.singletonList(categoryDto.getImage())).get(0);
+            eventPublisher.publishEvent(ImagesReplacedEvent.uploaded(List.of(newImageUrl)));
+        }
+
         // Buscar la categoría existente
         CategoryEntity category = categoryRepository.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("No se encontró la categoría"));
+        if (expectedVersions != null && !expectedVersions.contains(category.getVersion())) {
+            throw new VersionMismatchException("La categoría fue modificada por otro usuario, vuelve a cargarla");
+        }
 
-        if (categoryDto.getImage() != null && !categoryDto.getImage().isEmpty()) {
-            // Validar y subir la nueva imagen en cloudinary
-            fileValidator.validateFiles(Collections.singletonList(categoryDto.getImage()));
-            List<String> imageUrls = fileUploadService.saveImage(Collections.singletonList(categoryDto.getImage()));
-            String newImageUrl = imageUrls.get(0);
-
+        if (newImageUrl != null) {
             // Actualizar los datos de la imagen existente
             ImageEntity existingImage = category.getImage();
             if (existingImage != null) {
-                // Eliminar el archivo anterior de Cloudinary
-                fileUploadService.deleteExistingImages(Collections.singletonList(category.getImage().getImageUrl()));
+                // El archivo anterior se elimina de Cloudinary después del commit
+                eventPublisher.publishEvent(ImagesReplacedEvent.replaced(List.of(existingImage.getImageUrl())));
 
                 existingImage.setImageUrl(newImageUrl);
                 imageRepository.save(existingImage); // Guardar cambios en la imagen existente
@@ -198,7 +233,8 @@ public class CategoryServiceImpl implements ICategoryService {
         // Actualizar los demás campos de la categoría con el DTO recibido
         categoryMapper.partialUpdate(categoryDto, category);
 
-        CategoryEntity updatedCategory = categoryRepository.save(category);
+        // flush para que la respuesta (y su ETag) lleve la versión ya incrementada
+        CategoryEntity updatedCategory = categoryRepository.saveAndFlush(category);
 
         return categoryMapper.toDto(updatedCategory);
     }
@@ -214,7 +250,9 @@ public class CategoryServiceImpl implements ICategoryService {
      * @return The DTO of the disabled category if found, or an exception otherwise.
      */
     @Override
+    @Transactional
     public IDto delete(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
         CategoryEntity categoryEntity = categoryRepository.findByIdAndStatus(id, 1)
                 .orElseThrow(() -> new EntityNotFoundException("No se encontró la categorá a eliminar"));
 
@@ -240,7 +278,9 @@ public class CategoryServiceImpl implements ICategoryService {
      */
     //este no tiene la validación para que no se pueda desactivar una categoría con planes turísticos ya que podría ser una acción para un super admin
     @Override
+    @Transactional
     public IDto toggleStatus(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
         CategoryEntity categoryEntity = categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("No se encontró la categoría"));
 
@@ -5,8 +5,10 @@ import com.proyecto.turisteando.dtos.requestDto.CharacteristicRequestDto;
 
 import com.proyecto.turisteando.entities.CharacteristicEntity;
 import com.proyecto.turisteando.entities.ImageEntity;
+import com.proyecto.turisteando.events.ImagesReplacedEvent;
 import com.proyecto.turisteando.exceptions.customExceptions.CharacteristicNotFoundException;
 import com.proyecto.turisteando.mappers.CharacteristicMapper;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.repositories.CharacteristicRepository;
 import com.proyecto.turisteando.repositories.ImageRepository;
 import com.proyecto.turisteando.services.FileUploadService;
@@ -16,8 +18,10 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +32,7 @@ import java.util.stream.StreamSupport;
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Transactional(readOnly = true)
 public class CharacteristicServiceImpl implements ICharacteristicService {
 
     private final CharacteristicRepository characteristicRepository;
@@ -35,6 +40,8 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
     private final FileValidator fileValidator;
     private final FileUploadService fileUploadService;
     private final ImageRepository imageRepository;
+    private final ReferenceDtoCache referenceDtoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Iterable<IDto> getAll() {
@@ -77,7 +84,9 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
     }
 
     @Override
+    @Transactional
     public IDto create(IDto dto) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
         CharacteristicRequestDto characteristicDto = (CharacteristicRequestDto) dto;
 
         try {
@@ -87,6 +96,7 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
 
                 // Subir la imagen del icono a Cloudinary y obtener la URL
                 String iconUrl = fileUploadService.saveImage(Collections.singletonList(characteristicDto.getIcon())).get(0);
+                eventPublisher.publishEvent(ImagesReplacedEvent.uploaded(List.of(iconUrl)));
 
                 ImageEntity iconEntity = new ImageEntity();
                 iconEntity.setImageUrl(iconUrl);
@@ -118,24 +128,30 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
     }
 
     @Override
+    @Transactional
     public IDto update(IDto dto, Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
         CharacteristicRequestDto characteristicDto = (CharacteristicRequestDto) dto;
 
+        // Si se proporciona un nuevo ícono, validar y subir a Cloudinary antes de consultar la
+        // base de datos, así la conexión no queda retenida durante la subida
+        String newImageUrl = null;
+        if (characteristicDto.getIcon() != null && !characteristicDto.getIcon().isEmpty()) {
+            fileValidator.validateFiles(Collections.singletonList(characteristicDto.getIcon()));
+            newImageUrl = fileUploadService.saveImage(Collections.singletonList(characteristicDto.getIcon())).get(0);
+            eventPublisher.publishEvent(ImagesReplacedEvent.uploaded(List.of(newImageUrl)));
+        }
+
         // Buscar la característica existente
         CharacteristicEntity characteristic = characteristicRepository.findById(id)
                 .orElseThrow(() -> new CharacteristicNotFoundException("No se encontró la característica"));
 
-        // Si se proporciona un nuevo ícono, validar y subir a Cloudinary
-        if (characteristicDto.getIcon() != null && !characteristicDto.getIcon().isEmpty()) {
-            fileValidator.validateFiles(Collections.singletonList(characteristicDto.getIcon()));
-            List<String> imageUrls = fileUploadService.saveImage(Collections.singletonList(characteristicDto.getIcon()));
-            String newImageUrl = imageUrls.get(0);
-
+        if (newImageUrl != null) {
             // Manejo del ícono existente o creación de uno nuevo
             ImageEntity existingIcon = characteristic.getImage();
             if (existingIcon != null) {
-                // Eliminar el ícono anterior de Cloudinary
-                fileUploadService.deleteExistingImages(Collections.singletonList(existingIcon.getImageUrl()));
+                // El ícono anterior se elimina de Cloudinary después del commit
+                eventPublisher.publishEvent(ImagesReplacedEvent.replaced(List.of(existingIcon.getImageUrl())));
 
                 // Actualizar la URL del ícono existente
                 existingIcon.setImageUrl(newImageUrl);
@@ -159,7 +175,9 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
     }
 
     @Override
+    @Transactional
     public IDto delete(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
         CharacteristicEntity characteristicEntity = characteristicRepository.findByIdAndStatus(id, 1)
                 .orElseThrow(() -> new EntityNotFoundException("No se encontró la característica a eliminar"));
 
@@ -170,7 +188,9 @@ public class CharacteristicServiceImpl implements ICharacteristicService {
     }
 
     @Override
+    @Transactional
     public IDto toggleStatus(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
         CharacteristicEntity characteristicEntity  = characteristicRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("No se encontró la característica"));
 
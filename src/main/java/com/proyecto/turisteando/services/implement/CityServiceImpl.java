@@ -5,15 +5,18 @@ import com.proyecto.turisteando.dtos.responseDto.CityResponseDto;
 import com.proyecto.turisteando.entities.CityEntity;
 import com.proyecto.turisteando.exceptions.customExceptions.CityNotFoundException;
 import com.proyecto.turisteando.mappers.CityMapper;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.repositories.CityRepository;
 import com.proyecto.turisteando.services.CrudService;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.StreamSupport;
 
 @Service
+@Transactional(readOnly = true)
 public class CityServiceImpl implements CrudService<CityRequestDto, CityResponseDto, Long> {
 
     @Autowired
@@ -22,6 +25,9 @@ public class CityServiceImpl implements CrudService<CityRequestDto, CityResponse
     @Autowired
     private CityMapper cityMapper;
 
+    @Autowired
+    private ReferenceDtoCache referenceDtoCache;
+
     @Override
     public Iterable<CityResponseDto> getAll() {
         try {
@@ -51,7 +57,9 @@ public class CityServiceImpl implements CrudService<CityRequestDto, CityResponse
     }
 
     @Override
+    @Transactional
     public CityResponseDto create(CityRequestDto dto) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CITY);
         try {
             CityEntity city = cityMapper.toEntity(dto);
             return cityMapper.toDto(cityRepository.save(city));
@@ -61,7 +69,9 @@ public class CityServiceImpl implements CrudService<CityRequestDto, CityResponse
     }
 
     @Override
+    @Transactional
     public CityResponseDto update(CityRequestDto dto, Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CITY);
         try {
             CityEntity city = cityRepository.findById(id)
                     .orElseThrow(() -> new CityNotFoundException("No existe la ciudad con id: " + id));
@@ -73,7 +83,9 @@ public class CityServiceImpl implements CrudService<CityRequestDto, CityResponse
     }
 
     @Override
+    @Transactional
     public CityResponseDto delete(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CITY);
         try {
             CityEntity city = cityRepository.findById(id)
                     .orElseThrow(() -> new CityNotFoundException("No existe la ciudad con id: " + id));
@@ -85,6 +97,7 @@ public class CityServiceImpl implements CrudService<CityRequestDto, CityResponse
     }
 
     @Override
+    @Transactional
     public CityResponseDto toggleStatus(Long id) {
         return null;
     }
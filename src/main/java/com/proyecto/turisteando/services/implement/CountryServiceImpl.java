@@ -5,15 +5,18 @@ import com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto;
 import com.proyecto.turisteando.entities.CountryEntity;
 import com.proyecto.turisteando.exceptions.customExceptions.CountryNotFoundException;
 import com.proyecto.turisteando.mappers.CountryMapper;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.repositories.CountryRepository;
 import com.proyecto.turisteando.services.CrudService;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.StreamSupport;
 
 @Service
+@Transactional(readOnly = true)
 public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, Long> {
 
     @Autowired
@@ -22,6 +25,9 @@ public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, L
     @Autowired
     private CountryMapper countryMapper;
 
+    @Autowired
+    private ReferenceDtoCache referenceDtoCache;
+
     @Override
     public Iterable<CountryDto> getAll() {
         try {
@@ -51,6 +57,7 @@ public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, L
     }
 
     @Override
+    @Transactional
     public CountryDto create(CountryDto dto) {
         try {
             CountryEntity country = countryMapper.toEntity(dto);
@@ -61,7 +68,9 @@ public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, L
     }
 
     @Override
+    @Transactional
     public CountryDto update(CountryDto dto, Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CITY);
         try {
             CountryEntity country = countryRepository.findById(id)
                     .orElseThrow(() -> new CountryNotFoundException("No existe un país con el id: " + id));
@@ -74,7 +83,9 @@ public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, L
     }
 
     @Override
+    @Transactional
     public CountryDto delete(Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CITY);
         try {
             CountryEntity country = countryRepository.findById(id)
                     .orElseThrow(() -> new CountryNotFoundException("No existe un país con el id: " + id));
@@ -86,6 +97,7 @@ public class CountryServiceImpl implements CrudService<CountryDto, CountryDto, L
     }
 
     @Override
+    @Transactional
     public CountryDto toggleStatus(Long id) {
         return null;
     }
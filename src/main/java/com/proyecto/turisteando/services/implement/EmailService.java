@@ -1,5 +1,7 @@
 package com.proyecto.turisteando.services.implement;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +27,9 @@ public class EmailService {
     @Autowired
     private JavaMailSender javaMailSender;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${FRONTEND_URLS}")
     private String frontendUrls;
 
@@ -45,7 +50,7 @@ public class EmailService {
 //        Resource resource = new InputStreamResource()
         helper.addInline("emailStyles", new File("src/main/resources/static/css/styles.css"));
 
-        javaMailSender.send(message);
+        send(message);
     }
 
     private String getHtmlTemplate(String confirmLink, String userName) throws IOException {
@@ -92,7 +97,7 @@ public class EmailService {
         helper.setSubject(subjectEmail);
         helper.setText(htmlContent, true);
 
-        javaMailSender.send(message);
+        send(message);
     }
 
     public void sendHtmlTemplate(String toEmail, String userName, String lastName) throws MessagingException, IOException {
@@ -150,7 +155,25 @@ public class EmailService {
 
         helper.addInline("logoImage", imageBytes, "image/png");
 
-        javaMailSender.send(message);
+        send(message);
+    }
+
+    private void send(MimeMessage message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            javaMailSender.send(message);
+            outcome = "success";
+        } finally {
+            sample.stop(mailTimer(outcome));
+        }
+    }
+
+    private Timer mailTimer(String outcome) {
+        return Timer.builder("mail.send")
+                .description("Envío de correos por SMTP")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
 }
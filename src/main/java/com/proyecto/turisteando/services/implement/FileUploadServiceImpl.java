@@ -5,6 +5,8 @@ import com.cloudinary.utils.ObjectUtils;
 import com.proyecto.turisteando.config.CloudinaryConfig;
 import com.proyecto.turisteando.exceptions.customExceptions.FileUploadException;
 import com.proyecto.turisteando.services.FileUploadService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +21,7 @@ import java.util.Map;
 @Service
 public class FileUploadServiceImpl implements FileUploadService {
     private final CloudinaryConfig cloudinaryConfig;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public List<String> saveImage(List<MultipartFile> multipartFiles) throws FileUploadException {
@@ -28,12 +31,17 @@ public class FileUploadServiceImpl implements FileUploadService {
         Map<String, Object> params = getUploadParams();
 
         for (MultipartFile image : multipartFiles) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
             try {
                 Map<?, ?> uploadResult = cloudinary.uploader().upload(image.getBytes(), params);
                 String imageUrl = uploadResult.get("url").toString();
                 listImageName.add(imageUrl);
+                outcome = "success";
             } catch (IOException ex) {
                 throw new FileUploadException("Error al subir la imagen: " + image.getOriginalFilename(), ex);
+            } finally {
+                sample.stop(cloudinaryTimer("upload", outcome));
             }
         }
         return listImageName;
@@ -84,15 +92,28 @@ public class FileUploadServiceImpl implements FileUploadService {
         Cloudinary cloudinary = cloudinaryConfig.configuration();
 
         for (String imageUrl : imagesToDelete) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
             try {
                 String publicId = extractPublicId(imageUrl);
                 cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+                outcome = "success";
             } catch (IOException ex) {
                 throw new FileUploadException("Error al eliminar la imagen existente: " + imageUrl, ex);
+            } finally {
+                sample.stop(cloudinaryTimer("destroy", outcome));
             }
         }
     }
 
+    private Timer cloudinaryTimer(String operation, String outcome) {
+        return Timer.builder("cloudinary.requests")
+                .description("Llamadas a la API de Cloudinary")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     // Método auxiliar para extraer el public_id desde la URL de la imagen
     private String extractPublicId(String imageUrl) {
         // Lógica para extraer el public_id del URL (por ejemplo, usando un regex)
@@ -8,6 +8,7 @@ import com.proyecto.turisteando.entities.TouristPlanEntity;
 import com.proyecto.turisteando.exceptions.customExceptions.ImageNotFoundException;
 import com.proyecto.turisteando.exceptions.customExceptions.TouristPlanNotFoundException;
 import com.proyecto.turisteando.mappers.ImageMapper;
+import com.proyecto.turisteando.mappers.ReferenceDtoCache;
 import com.proyecto.turisteando.repositories.ImageRepository;
 
 import com.proyecto.turisteando.repositories.TouristPlanRepository;
@@ -16,6 +17,7 @@ import com.proyecto.turisteando.services.IImageService;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -23,13 +25,14 @@ import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
-
+@Transactional(readOnly = true)
 public class ImageServiceImpl implements IImageService {
 
 
     private final ImageRepository imageRepository;
     private final TouristPlanRepository touristPlanRepository;
     private final ImageMapper imageMapper;
+    private final ReferenceDtoCache referenceDtoCache;
 
     @Override
     public Iterable<IDto> getAll() {
@@ -57,6 +60,7 @@ public class ImageServiceImpl implements IImageService {
 
 
     @Override
+    @Transactional
     public IDto create(IDto dto) {
         ImageRequestDto imageRequestDto = (ImageRequestDto) dto;
         try {
@@ -75,7 +79,10 @@ public class ImageServiceImpl implements IImageService {
     }
 
     @Override
+    @Transactional
     public IDto update(IDto dto, Long id) {
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
 
         try {
             ImageEntity imageEntity = imageRepository.findById(id)
@@ -89,7 +96,10 @@ public class ImageServiceImpl implements IImageService {
     }
 
     @Override
+    @Transactional
     public IDto delete(Long id){
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CATEGORY);
+        referenceDtoCache.invalidate(ReferenceDtoCache.Region.CHARACTERISTIC);
         try {
             ImageEntity imageEntity = imageRepository.findById(id)
                     .orElseThrow(() -> new ImageNotFoundException("No existe una imagen con el id: " + id));
@@ -102,6 +112,7 @@ public class ImageServiceImpl implements IImageService {
     }
 
     @Override
+    @Transactional
     public IDto toggleStatus(Long id) {
         return null;
     }
@@ -1,11 +1,13 @@
 package com.proyecto.turisteando.services.implement;
 
+import com.proyecto.turisteando.datasource.ReadYourWritesTracker;
 import com.proyecto.turisteando.dtos.requestDto.ReservationRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.CityResponseDto;
 import com.proyecto.turisteando.dtos.responseDto.ReservationResponseDto;
 import com.proyecto.turisteando.entities.ReservationEntity;
 import com.proyecto.turisteando.entities.TouristPlanEntity;
 import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.exceptions.customExceptions.InvalidRequestParameterException;
 import com.proyecto.turisteando.exceptions.customExceptions.ReservationNotFoundException;
 import com.proyecto.turisteando.exceptions.customExceptions.TouristPlanNotFoundException;
 import com.proyecto.turisteando.mappers.ReservationMapper;
@@ -13,21 +15,35 @@ import com.proyecto.turisteando.repositories.IUserRepository;
 import com.proyecto.turisteando.repositories.ReservationRepository;
 import com.proyecto.turisteando.repositories.TouristPlanRepository;
 import com.proyecto.turisteando.services.IReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Iterator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Transactional(readOnly = true)
 public class ReservationServiceImpl implements IReservationService {
 
     @Autowired
@@ -42,6 +58,14 @@ public class ReservationServiceImpl implements IReservationService {
     @Autowired
     private IUserRepository userRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    private static final String CSV_HEADER = "id,createdAt,status,startDate,endDate,peopleCount,touristPlanId,userId";
+
     @Override
     public Iterable<ReservationResponseDto> getAll() {
         Iterable<ReservationEntity> allReservations = reservationRepository.findAll();
@@ -58,6 +82,7 @@ public class ReservationServiceImpl implements IReservationService {
     }
 
     @Override
+    @Transactional
     public ReservationResponseDto create(ReservationRequestDto dto) {
         try {
             TouristPlanEntity touristPlan = touristPlanRepository.findById(dto.getTouristPlanId())
@@ -71,14 +96,13 @@ public class ReservationServiceImpl implements IReservationService {
             UserEntity user = userRepository.findById(dto.getUserId())
                     .orElseThrow(() -> new ReservationNotFoundException("No existe un usuario con el id: " + dto.getUserId()));
 
-            System.out.println(user.toString());
-
             ReservationEntity reservationEntity = reservationMapper.toEntity(dto);
             reservationEntity.setTouristPlan(touristPlan);
             reservationEntity.setUser(user);
 
 
             ReservationEntity savedReservation = reservationRepository.save(reservationEntity);
+            readYourWritesTracker.recordWrite(user.getId());
             return reservationMapper.toDto(savedReservation);
             } catch (Exception e) {
                 throw new ServiceException(e.getMessage());
@@ -86,11 +110,13 @@ public class ReservationServiceImpl implements IReservationService {
     }
 
     @Override
+    @Transactional
     public ReservationResponseDto update(ReservationRequestDto dto, Long id) {
         try{
         ReservationEntity reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new ReservationNotFoundException("No existe una reserva con el id: " + id));
         reservationMapper.partialUpdate(dto, reservation);
+        readYourWritesTracker.recordWrite(reservation.getUser().getId());
         return reservationMapper.toDto(reservationRepository.save(reservation));
         } catch (Exception e) {
             throw new ServiceException(e.getMessage());
@@ -98,12 +124,14 @@ public class ReservationServiceImpl implements IReservationService {
     }
 
     @Override
+    @Transactional
     public ReservationResponseDto delete(Long id) {
         try {
             ReservationEntity reservation = reservationRepository.findById(id)
                     .orElseThrow(() -> new ReservationNotFoundException("No existe una reserva con el id: " + id));
 
             reservationRepository.delete(reservation);
+            readYourWritesTracker.recordWrite(reservation.getUser().getId());
             return reservationMapper.toDto(reservation);
         } catch (Exception e) {
             throw new ServiceException(e.getMessage());
@@ -111,12 +139,14 @@ public class ReservationServiceImpl implements IReservationService {
     }
 
     @Override
+    @Transactional
     public ReservationResponseDto toggleStatus(Long id) {
         try {
             ReservationEntity reservation = reservationRepository.findById(id)
                     .orElseThrow(() -> new ReservationNotFoundException("No existe una reserva con el id: " + id));
             reservation.setStatus(!reservation.isStatus());
             ReservationEntity updatedReservation = reservationRepository.save(reservation);
+            readYourWritesTracker.recordWrite(reservation.getUser().getId());
             return reservationMapper.toDto(updatedReservation);
         } catch (Exception e) {
             throw new ServiceException(e.getMessage());
@@ -137,7 +167,7 @@ public class ReservationServiceImpl implements IReservationService {
     @Override
     public Iterable<ReservationResponseDto> findByStartDateBetween(LocalDate startDate, LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
-            throw new ReservationNotFoundException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+            throw new InvalidRequestParameterException("La fecha de inicio no puede ser posterior a la fecha de fin.");
         }
         List<ReservationEntity> reservations = reservationRepository.findByStartDateBetween(startDate, endDate);
         if (reservations.isEmpty()) {
@@ -150,7 +180,9 @@ public class ReservationServiceImpl implements IReservationService {
 
     @Override
     public Iterable<ReservationResponseDto> findByUserIdAndStatus(Long userId, boolean status) {
-        List<ReservationEntity> reservations = reservationRepository.findByUserIdAndStatus(userId, status);
+        // Tras crear o modificar una reserva, el usuario la ve aunque la réplica todavía no la tenga
+        List<ReservationEntity> reservations = readYourWritesTracker.read(userId,
+                () -> reservationRepository.findByUserIdAndStatus(userId, status));
         if (reservations.isEmpty()) {
             throw new ReservationNotFoundException("No se encontraron reservas para el usuario con ID: " + userId);
         }
@@ -158,4 +190,59 @@ public class ReservationServiceImpl implements IReservationService {
                 .map(reservationMapper::toDto)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Page<ReservationResponseDto> getReservationsByTouristPlan(Long touristPlanId, Pageable pageable) {
+        return reservationRepository.findByTouristPlanId(touristPlanId, pageable)
+                .map(reservationMapper::toDto);
+    }
+
+    @Override
+    public Slice<ReservationResponseDto> findByStartDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestParameterException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+        return reservationRepository.findByStartDateBetween(startDate, endDate, pageable)
+                .map(reservationMapper::toDto);
+    }
+
+    @Override
+    public Page<ReservationResponseDto> findByUserIdAndStatus(Long userId, boolean status, Pageable pageable) {
+        return readYourWritesTracker.read(userId, () -> reservationRepository.findByUserIdAndStatus(userId, status, pageable))
+                .map(reservationMapper::toDto);
+    }
+
+    @Override
+    public void exportReservations(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<ReservationResponseDto> reservations = reservationRepository.streamByStartDateBetween(startDate, endDate)) {
+            Iterator<ReservationResponseDto> iterator = reservations.iterator();
+            while (iterator.hasNext()) {
+                ReservationResponseDto reservation = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsvLine(reservation) : objectMapper.writeValueAsString(reservation));
+                writer.write('\n');
+                rows++;
+            }
+        }
+        writer.flush();
+        log.info("Exportación de reservas ({}) entre {} y {}: {} filas", format, startDate, endDate, rows);
+    }
+
+    private String toCsvLine(ReservationResponseDto reservation) {
+        // Todos los campos son numéricos, booleanos o fechas ISO, no requieren escape
+        return reservation.getId() + "," +
+                reservation.getCreatedAt() + "," +
+                reservation.isStatus() + "," +
+                reservation.getStartDate() + "," +
+                reservation.getEndDate() + "," +
+                reservation.getPeopleCount() + "," +
+                reservation.getTouristPlanId() + "," +
+                reservation.getUserId();
+    }
 }
@@ -23,12 +23,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
 import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class ReviewServiceImpl implements IReviewService {
     private final ReviewRepository reviewRepository;
     private final TouristPlanRepository touristPlanRepository;
@@ -60,6 +63,7 @@ public class ReviewServiceImpl implements IReviewService {
     }
 
     @Override
+    @Transactional
     public ReviewResponseDto create(ReviewRequestDto reviewRequestDto) {
         try {
             boolean hasReservation = reservationRepository.existsByUserIdAndTouristPlanId(
@@ -97,11 +101,22 @@ public class ReviewServiceImpl implements IReviewService {
     }
 
     @Override
+    @Transactional
     public ReviewResponseDto update(ReviewRequestDto reviewRequestDto, Long id) {
+        return update(reviewRequestDto, id, null);
+    }
+
+    @Override
+    @Transactional
+    public ReviewResponseDto update(ReviewRequestDto reviewRequestDto, Long id, Set<Long> expectedVersions) {
 
         ReviewEntity existingReview = reviewRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review with id " + id + " not found"));
 
+        if (expectedVersions != null && !expectedVersions.contains(existingReview.getVersion())) {
+            throw new VersionMismatchException("La reseña fue modificada desde otra sesión, vuelve a cargarla");
+        }
+
         // Verificar que el usuario que está intentando actualizar sea el mismo que creó la review
         if (!existingReview.getUser().getId().equals(reviewRequestDto.getIdUser())) {
             throw new UnauthorizedActionException("Sólo el creador de la review puede modificarla");
@@ -123,11 +138,12 @@ public class ReviewServiceImpl implements IReviewService {
         touristPlanRepository.save(touristPlan);
 
         // Guardar y retornar la review actualizada
-        return reviewMapper.toResponseDto(reviewRepository.save(updatedReview));
+        return reviewMapper.toResponseDto(reviewRepository.saveAndFlush(updatedReview));
 
     }
 
     @Override
+    @Transactional
     public ReviewResponseDto delete(Long id) {
         ReviewEntity reviewEntity = reviewRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review with id " + id + " not found"));
@@ -159,6 +175,7 @@ public class ReviewServiceImpl implements IReviewService {
 
 
     @Override
+    @Transactional
     public ReviewResponseDto toggleStatus(Long id) {
         ReviewEntity reviewEntity = reviewRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review with id " + id + " not found"));
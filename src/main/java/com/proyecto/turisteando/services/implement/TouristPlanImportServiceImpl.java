@@ -0,0 +1,340 @@
+package com.proyecto.turisteando.services.implement;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.turisteando.dtos.requestDto.TouristPlanImportRowDto;
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanImportResponseDto;
+import com.proyecto.turisteando.entities.CategoryEntity;
+import com.proyecto.turisteando.entities.CharacteristicEntity;
+import com.proyecto.turisteando.entities.CityEntity;
+import com.proyecto.turisteando.entities.ImageEntity;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.exceptions.customExceptions.FileValidationException;
+import com.proyecto.turisteando.repositories.CategoryRepository;
+import com.proyecto.turisteando.repositories.CharacteristicRepository;
+import com.proyecto.turisteando.repositories.CityRepository;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import com.proyecto.turisteando.services.ITouristPlanImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of tourist plans. The input is read line by line and only the current chunk is held in
+ * memory; city, category and characteristic names are resolved against lookups loaded once per import.
+ * Each chunk is persisted in its own transaction, flushed as JDBC batches and cleared from the
+ * persistence context, so a failed chunk does not undo the previous ones.
+ */
+@Slf4j
+@Service
+public class TouristPlanImportServiceImpl implements ITouristPlanImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of("title", "description", "price", "seller", "city",
+            "category", "capacity", "availabilityStartDate", "availabilityEndDate", "duration",
+            "characteristics", "images");
+    // Separador de las columnas con varios valores (características e imágenes) en el CSV
+    private static final String LIST_SEPARATOR = "\\|";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CharacteristicRepository characteristicRepository;
+
+    @Autowired
+    private TouristPlanRepository touristPlanRepository;
+
+    @Value("${tourist-plans.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${tourist-plans.import.max-errors}")
+    private int maxErrors;
+
+    @Override
+    public TouristPlanImportResponseDto importTouristPlans(InputStream inputStream, ImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        Lookups lookups = transactionTemplate.execute(status -> new Lookups(
+                byName(cityRepository.findAll(), CityEntity::getName, CityEntity::getId),
+                byName(categoryRepository.findAll(), CategoryEntity::getName, CategoryEntity::getId),
+                byName(characteristicRepository.findAll(), CharacteristicEntity::getName, CharacteristicEntity::getId)));
+
+        ImportReport report = new ImportReport(maxErrors);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+
+        Function<String, TouristPlanImportRowDto> parser;
+        if (format == ImportFormat.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                return report.toDto();
+            }
+            parser = csvParser(header);
+        } else {
+            parser = this::parseJson;
+        }
+
+        List<PendingPlan> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.processed++;
+            try {
+                chunk.add(resolve(parser.apply(line), lineNumber, lookups));
+            } catch (IllegalArgumentException e) {
+                report.fail(lineNumber, e.getMessage());
+            }
+            if (chunk.size() >= chunkSize) {
+                persist(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persist(chunk, report);
+        }
+
+        log.info("Importación de planes turísticos ({}): {} filas, {} importadas, {} con error en {} ms", format,
+                report.processed, report.imported, report.failed, (System.nanoTime() - start) / 1_000_000);
+        return report.toDto();
+    }
+
+    private void persist(List<PendingPlan> chunk, ImportReport report) {
+        List<PendingPlan> duplicates = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Los títulos son únicos: se descartan los que ya existen y los repetidos dentro del lote
+                Set<String> titles = new HashSet<>(touristPlanRepository.findExistingTitles(
+                        chunk.stream().map(plan -> plan.row().getTitle()).toList()));
+                for (PendingPlan plan : chunk) {
+                    if (!titles.add(plan.row().getTitle())) {
+                        duplicates.add(plan);
+                        continue;
+                    }
+                    entityManager.persist(toEntity(plan));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            // el flush del EntityManager lanza excepciones JPA sin traducir a DataAccessException
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("No se pudo guardar un lote de {} planes turísticos: {}", chunk.size(), cause);
+            chunk.forEach(plan -> report.fail(plan.line(), "No se pudo guardar el lote: " + cause));
+            return;
+        }
+        duplicates.forEach(plan -> report.fail(plan.line(), "Ya existe un plan turístico con el título: " + plan.row().getTitle()));
+        report.imported += chunk.size() - duplicates.size();
+    }
+
+    private TouristPlanEntity toEntity(PendingPlan plan) {
+        TouristPlanImportRowDto row = plan.row();
+        TouristPlanEntity touristPlan = TouristPlanEntity.builder()
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .price(row.getPrice())
+                .seller(row.getSeller())
+                .city(entityManager.getReference(CityEntity.class, plan.cityId()))
+                .category(entityManager.getReference(CategoryEntity.class, plan.categoryId()))
+                .characteristic(plan.characteristicIds().stream()
+                        .map(id -> entityManager.getReference(CharacteristicEntity.class, id))
+                        .collect(Collectors.toList()))
+                .availabilityStartDate(row.getAvailabilityStartDate())
+                .availabilityEndDate(row.getAvailabilityEndDate())
+                .capacity(row.getCapacity())
+                .duration(row.getDuration())
+                .build();
+        touristPlan.setImages(row.getImages().stream()
+                .map(url -> ImageEntity.builder().imageUrl(url).touristPlan(touristPlan).build())
+                .collect(Collectors.toList()));
+        return touristPlan;
+    }
+
+    private PendingPlan resolve(TouristPlanImportRowDto row, long line, Lookups lookups) {
+        Set<ConstraintViolation<TouristPlanImportRowDto>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (row.getAvailabilityEndDate().isBefore(row.getAvailabilityStartDate())) {
+            throw new IllegalArgumentException("La fecha de fin de disponibilidad no puede ser anterior a la de inicio");
+        }
+        Long cityId = lookup(lookups.cities(), row.getCity(), "No existe la ciudad: ");
+        Long categoryId = lookup(lookups.categories(), row.getCategory(), "No existe la categoría: ");
+        List<Long> characteristicIds = row.getCharacteristics().stream()
+                .map(name -> lookup(lookups.characteristics(), name, "No existe la característica: "))
+                .distinct()
+                .toList();
+        return new PendingPlan(line, row, cityId, categoryId, characteristicIds);
+    }
+
+    private static Long lookup(Map<String, Long> ids, String name, String error) {
+        Long id = ids.get(normalize(name));
+        if (id == null) {
+            throw new IllegalArgumentException(error + name);
+        }
+        return id;
+    }
+
+    private TouristPlanImportRowDto parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, TouristPlanImportRowDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private Function<String, TouristPlanImportRowDto> csvParser(String header) {
+        List<String> names = parseCsvLine(header);
+        List<String> missing = CSV_COLUMNS.stream().filter(column -> !names.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new FileValidationException("Faltan columnas en el CSV: " + String.join(", ", missing));
+        }
+        int[] index = CSV_COLUMNS.stream().mapToInt(names::indexOf).toArray();
+
+        return line -> {
+            List<String> values = parseCsvLine(line);
+            Function<Integer, String> column = i -> index[i] < values.size() ? emptyToNull(values.get(index[i])) : null;
+            try {
+                return new TouristPlanImportRowDto(
+                        column.apply(0), column.apply(1),
+                        column.apply(2) != null ? Double.valueOf(column.apply(2)) : null,
+                        column.apply(3), column.apply(4), column.apply(5),
+                        column.apply(6) != null ? Integer.valueOf(column.apply(6)) : null,
+                        column.apply(7) != null ? LocalDate.parse(column.apply(7)) : null,
+                        column.apply(8) != null ? LocalDate.parse(column.apply(8)) : null,
+                        column.apply(9), splitList(column.apply(10)), splitList(column.apply(11)));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Valor inválido: " + e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Splits a CSV line following RFC 4180 quoting: fields may be enclosed in double quotes and a
+     * quote inside a quoted field is written twice. Quoted fields cannot span several lines.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar en la fila");
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+
+    private static List<String> splitList(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static <T> Map<String, Long> byName(List<T> entities, Function<T, String> name, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(entity -> normalize(name.apply(entity)), id, (first, second) -> first));
+    }
+
+    // Los nombres se comparan sin distinguir mayúsculas ni espacios sobrantes
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Lookups(Map<String, Long> cities, Map<String, Long> categories, Map<String, Long> characteristics) {
+    }
+
+    private record PendingPlan(long line, TouristPlanImportRowDto row, Long cityId, Long categoryId, List<Long> characteristicIds) {
+    }
+
+    /** Running totals of an import; only the first {@code maxErrors} row errors are kept. */
+    private static final class ImportReport {
+
+        private final int maxErrors;
+        private final List<TouristPlanImportResponseDto.RowError> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new TouristPlanImportResponseDto.RowError(line, message));
+            }
+        }
+
+        TouristPlanImportResponseDto toDto() {
+            return new TouristPlanImportResponseDto(processed, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
@@ -5,11 +5,12 @@ import com.proyecto.turisteando.dtos.requestDto.TouristPlanRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.TouristPlanResponseDto;
 import com.proyecto.turisteando.entities.ImageEntity;
 import com.proyecto.turisteando.entities.TouristPlanEntity;
-import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.events.ImagesReplacedEvent;
 import com.proyecto.turisteando.exceptions.customExceptions.FileValidationException;
 import com.proyecto.turisteando.exceptions.customExceptions.ImageLimitExceededException;
 import com.proyecto.turisteando.exceptions.customExceptions.ImageNotFoundException;
 import com.proyecto.turisteando.exceptions.customExceptions.TouristPlanNotFoundException;
+import com.proyecto.turisteando.exceptions.customExceptions.VersionMismatchException;
 import com.proyecto.turisteando.mappers.TouristPlanMapper;
 import com.proyecto.turisteando.repositories.ImageRepository;
 import com.proyecto.turisteando.repositories.TouristPlanRepository;
@@ -19,6 +20,7 @@ import com.proyecto.turisteando.services.ITouristPlanService;
 import com.proyecto.turisteando.utils.FileValidator;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,6 +31,7 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Service
+@Transactional(readOnly = true)
 public class TouristPlanServiceImpl implements ITouristPlanService {
 
     @Autowired
@@ -49,6 +52,9 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
 
     @Override
     public Iterable<TouristPlanResponseDto> getAll() {
@@ -68,15 +74,16 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
     }
 
     @Override
-    public List<TouristPlanResponseDto> findAllFavoritesByUser(UserEntity user) {
+    public List<TouristPlanResponseDto> findAllFavoritesByUser(Long userId) {
         List<TouristPlanEntity> plans = touristPlanRepository.findAll();
-        Set<Long> favoritePlanIds = touristPlanRepository.usersFavorites(user.getId())
+        Set<Long> favoritePlanIds = touristPlanRepository.usersFavorites(userId)
                 .stream()
                 .map(TouristPlanEntity::getId).collect(Collectors.toSet());
         return touristPlanMapper.toDtoListWithFavorites(plans, favoritePlanIds);
     }
 
     @Override
+    @Transactional
     public void addUsersFavorites(Long userId, Long touristPlanId) {
         boolean exists = touristPlanRepository.existsByIdAndUsersFavorites_Id(touristPlanId, userId);
         if (exists) {
@@ -86,6 +93,7 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
     }
 
     @Override
+    @Transactional
     public void deleteUsersFavorites(Long userId, Long touristPlanId) {
         touristPlanRepository.deleteUsersFavorites(userId, touristPlanId);
     }
@@ -103,12 +111,16 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
 
 
     @Override
+    @Transactional
     public TouristPlanResponseDto create(TouristPlanRequestDto dto) {
 
         fileValidator.validateFiles(dto.getMultipartImages());
 
+        // La subida ocurre antes de cualquier consulta, sin conexión a la base de datos tomada
         List<String> imageUrls = fileUploadService.saveImage(dto.getMultipartImages()); // Guarda las imágenes y lanza una excepción de tipo FileUploadException si hay un error
         dto.setImagesUrl(imageUrls);
+        // Si la transacción se revierte, las imágenes subidas se eliminan de Cloudinary
+        eventPublisher.publishEvent(ImagesReplacedEvent.uploaded(imageUrls));
 
         TouristPlanEntity touristPlanEntity = touristPlanMapper.toEntity(dto);
 
@@ -126,28 +138,46 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
     }
 
     @Override
+    @Transactional
     public TouristPlanResponseDto update(TouristPlanRequestDto dto, Long id) {
+        return update(dto, id, null);
+    }
 
-        TouristPlanEntity touristPlan = touristPlanRepository.findById(id)
-                .orElseThrow(() -> new TouristPlanNotFoundException("No existe un plan turístico con el id: " + id));
-
-        // Actualizar el resto de los campos del plan turístico
-        touristPlanMapper.partialUpdate(dto, touristPlan);
+    @Override
+    @Transactional
+    public TouristPlanResponseDto update(TouristPlanRequestDto dto, Long id, Set<Long> expectedVersions) {
 
         // Obtener imágenes a eliminar y las nuevas imágenes
         List<String> imagesToDelete = dto.getImagesToDelete();
         List<MultipartFile> newImages = dto.getMultipartImages();
+        boolean replaceImages = imagesToDelete != null && !imagesToDelete.isEmpty();
 
-        if (imagesToDelete != null && !imagesToDelete.isEmpty()) {
+        // Subir nuevas imágenes a Cloudinary antes de tocar la base de datos: la conexión
+        // se toma recién con la primera consulta y no queda retenida durante la subida
+        List<String> newImageUrls = Collections.emptyList();
+        if (replaceImages) {
             if (newImages == null || newImages.size() != imagesToDelete.size()) {
                 throw new FileValidationException("La cantidad de imágenes nuevas debe coincidir con las imágenes a eliminar.");
             }
 
             fileValidator.validateFiles(newImages);
-            // Subir nuevas imágenes a Cloudinary
-            List<String> newImageUrls = fileUploadService.saveImage(newImages);
+            newImageUrls = fileUploadService.saveImage(newImages);
             dto.setImagesUrl(newImageUrls);
+            // Las imágenes antiguas se eliminan de Cloudinary después del commit; si hay rollback, las nuevas
+            eventPublisher.publishEvent(new ImagesReplacedEvent(imagesToDelete, newImageUrls));
+        }
+
+        TouristPlanEntity touristPlan = touristPlanRepository.findById(id)
+                .orElseThrow(() -> new TouristPlanNotFoundException("No existe un plan turístico con el id: " + id));
+        // Si el cliente editó una versión anterior se rechaza; las imágenes ya subidas se limpian con el rollback
+        if (expectedVersions != null && !expectedVersions.contains(touristPlan.getVersion())) {
+            throw new VersionMismatchException("El plan turístico fue modificado por otro usuario, vuelve a cargarlo");
+        }
 
+        // Actualizar el resto de los campos del plan turístico
+        touristPlanMapper.partialUpdate(dto, touristPlan);
+
+        if (replaceImages) {
             // Reemplazar imágenes en la base de datos
             for (int i = 0; i < imagesToDelete.size(); i++) {
                 String oldImageUrl = imagesToDelete.get(i);
@@ -161,9 +191,6 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
                 imageEntity.setImageUrl(newImageUrl);
                 imageRepository.save(imageEntity);
             }
-
-            // Eliminar las imágenes antiguas de Cloudinary
-            fileUploadService.deleteExistingImages(imagesToDelete);
         }
 
         // Validar que el total de imágenes no exceda el límite de 5
@@ -171,12 +198,14 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
             throw new ImageLimitExceededException("No se pueden cargar más de 5 imágenes por plan turístico");
         }
 
-        return touristPlanMapper.toDto(touristPlanRepository.save(touristPlan));
+        // flush para que la respuesta (y su ETag) lleve la versión ya incrementada
+        return touristPlanMapper.toDto(touristPlanRepository.saveAndFlush(touristPlan));
 
     }
 
 
     @Override
+    @Transactional
     public TouristPlanResponseDto delete(Long id) {
         try {
             TouristPlanEntity touristPlan = touristPlanRepository.findById(id)
@@ -190,6 +219,7 @@ public class TouristPlanServiceImpl implements ITouristPlanService {
     }
 
     @Override
+    @Transactional
     public TouristPlanResponseDto toggleStatus(Long id) {
         try {
             TouristPlanEntity touristPlan = touristPlanRepository.findById(id)
@@ -4,6 +4,7 @@ import com.proyecto.turisteando.dtos.requestDto.UserRequestDto;
 import com.proyecto.turisteando.dtos.responseDto.UserResponseDto;
 import com.proyecto.turisteando.entities.UserEntity;
 import com.proyecto.turisteando.entities.enums.Role;
+import com.proyecto.turisteando.exceptions.customExceptions.VersionMismatchException;
 import com.proyecto.turisteando.mappers.IUserMapper;
 import com.proyecto.turisteando.repositories.IUserRepository;
 import com.proyecto.turisteando.services.IUserService;
@@ -16,11 +17,15 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.proyecto.turisteando.entities.enums.Role;
+import com.proyecto.turisteando.exceptions.customExceptions.VersionMismatchException;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Transactional(readOnly = true)
 public class UserServiceImpl implements IUserService, UserDetailsService {
 
     @Autowired
@@ -49,24 +54,37 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
     }
 
     @Override
+    @Transactional
     public UserResponseDto create(UserRequestDto userRequestDto) {
         return null;
     }
 
     @Override
+    @Transactional
     public UserResponseDto update(UserRequestDto userRequestDto, Long id) {
+        return update(userRequestDto, id, null);
+    }
+
+    @Override
+    @Transactional
+    public UserResponseDto update(UserRequestDto userRequestDto, Long id, Set<Long> expectedVersions) {
         UserEntity userEntity = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
+        if (expectedVersions != null && !expectedVersions.contains(userEntity.getVersion())) {
+            throw new VersionMismatchException("El usuario fue modificado por otra sesión, vuelve a cargarlo");
+        }
         try {
             userMapper.partialUpdate(userRequestDto, userEntity, passwordEncoder);
-            userRepository.save(userEntity);
-            return userMapper.toDto(userEntity);
         } catch (Exception e) {
             throw new ServiceException(e.getMessage());
         }
+        // Fuera del try: un conflicto de versión debe llegar como tal al handler (409), no como ServiceException
+        userRepository.saveAndFlush(userEntity);
+        return userMapper.toDto(userEntity);
     }
 
     @Override
+    @Transactional
     public UserResponseDto delete(Long id) {
         UserEntity userEntity = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
@@ -80,6 +98,7 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
     }
 
     @Override
+    @Transactional
     public UserResponseDto toggleStatus(Long id) {
         UserEntity userEntity = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
@@ -112,6 +131,7 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
     }
 
     @Override
+    @Transactional
     public UserResponseDto toggleUserRole(Long id) {
         UserEntity userEntity = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
@@ -134,7 +154,7 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserDetails userDetails = userRepository.findByEmail(username)
+        UserDetails userDetails = userRepository.findAuthenticatedUserByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
         return new User(
                 userDetails.getUsername(),
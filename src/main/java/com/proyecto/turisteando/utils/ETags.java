@@ -0,0 +1,65 @@
+package com.proyecto.turisteando.utils;
+
+import com.proyecto.turisteando.dtos.IVersionedDto;
+import com.proyecto.turisteando.exceptions.customExceptions.VersionMismatchException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ETag / If-Match handling for resources under optimistic locking: the ETag is the entity's
+ * {@code @Version} value, sent as a strong validator.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 200 OK builder carrying the DTO's version as ETag (none if the DTO is not versioned).
+     */
+    public static ResponseEntity.BodyBuilder ok(Object dto) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (dto instanceof IVersionedDto versioned && versioned.getVersion() != null) {
+            builder.eTag("\"" + versioned.getVersion() + "\"");
+        }
+        return builder;
+    }
+
+    /**
+     * Versions the client accepts, taken from the If-Match header. The header may list several entity
+     * tags ({@code "3", "4"}); the update goes ahead if the resource is at any of them. Returns
+     * {@code null} when the header is absent or "*", in which case the update is not conditional.
+     *
+     * @throws VersionMismatchException If the header lists no tag that can match a version.
+     */
+    public static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String element : ifMatch.split(",")) {
+            String tag = element.trim();
+            if (tag.equals("*")) {
+                return null;
+            }
+            // If-Match usa comparación fuerte: un ETag débil (W/"...") nunca coincide
+            if (tag.startsWith("W/")) {
+                continue;
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            try {
+                versions.add(Long.valueOf(tag));
+            } catch (NumberFormatException e) {
+                // una etiqueta que no es una versión no coincide con ninguna, pero las demás siguen valiendo
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new VersionMismatchException("El encabezado If-Match no corresponde a ninguna versión del recurso");
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,207 @@
+package com.proyecto.turisteando.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the rendered {@link Response} of hot, rarely changing read endpoints (category, characteristic
+ * and city lists) as serialized bytes, plus a gzipped copy and an ETag. On a hit the bytes are written
+ * straight to the servlet output stream: no DTO mapping and no JSON generation.
+ * <p>
+ * The body is rendered once per negotiated format (JSON, or CBOR / Smile when the client asks for
+ * them through {@code Accept}), using the same mappers as the HTTP message converters.
+ * <p>
+ * Every entry carries the version it was rendered for; callers pass the current version of the data
+ * (e.g. the generation of the reference data in {@code ReferenceDtoCache}), so a write makes the
+ * entry stale without any explicit eviction.
+ */
+@Component
+public class SerializedResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, CachedBody> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Writes the cached response for the key, rendering it first when missing or stale.
+     *
+     * @param key      The name of the cached endpoint.
+     * @param version  The current version of the data behind the endpoint.
+     * @param renderer Builds the response envelope on a miss.
+     */
+    public void write(String key, long version, Supplier<Response> renderer,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Format format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String entryKey = key + ":" + format.name();
+        CachedBody body = entries.get(entryKey);
+        boolean hit = body != null && body.version() == version;
+        meterRegistry.counter("response.cache.requests", "key", key, "format", format.name(), "result", hit ? "hit" : "miss")
+                .increment();
+        if (!hit) {
+            body = render(version, format, renderer.get());
+            // una petición lenta no debe pisar una entrada ya renderizada con datos más nuevos
+            entries.merge(entryKey, body, (current, rendered) -> current.version() > rendered.version() ? current : rendered);
+        }
+        writeBody(body, request, response);
+    }
+
+    /**
+     * Picks the format with the highest quality value in {@code Accept}; JSON wins ties, and is also
+     * used when the header is missing or asks for nothing we can produce.
+     */
+    private Format negotiate(String accept) {
+        Format json = new Format("json", MediaType.APPLICATION_JSON, objectMapper);
+        if (accept == null || accept.isBlank()) {
+            return json;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return json;
+        }
+        List<Format> formats = List.of(json,
+                new Format("cbor", MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper()),
+                new Format("smile", new MediaType("application", "x-jackson-smile"), smileConverter.getObjectMapper()));
+        Format best = json;
+        double bestQuality = 0;
+        for (Format format : formats) {
+            for (MediaType mediaType : accepted) {
+                if (mediaType.includes(format.mediaType()) && mediaType.getQualityValue() > bestQuality) {
+                    best = format;
+                    bestQuality = mediaType.getQualityValue();
+                }
+            }
+        }
+        return best;
+    }
+
+    private CachedBody render(long version, Format format, Response envelope) {
+        try {
+            byte[] bytes = format.mapper().writeValueAsBytes(envelope);
+            return new CachedBody(version, envelope.getHttpStatus(), format.mediaType(), bytes, gzip(bytes), etag(bytes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    private void writeBody(CachedBody body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, body.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (body.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(body.status().value());
+        if (body.status() == HttpStatus.NO_CONTENT) {
+            return;
+        }
+        response.setContentType(body.contentType().toString());
+        byte[] bytes = body.body();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            bytes = body.gzip();
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip (RFC 9110, section 12.5.3): an explicit {@code gzip}
+     * (or {@code x-gzip}) coding decides by its quality value, otherwise a {@code *} does; a quality of
+     * 0 means "not acceptable".
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : anyQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // un q inválido no habilita la codificación
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Format(String name, MediaType mediaType, ObjectMapper mapper) {
+    }
+
+    private record CachedBody(long version, HttpStatus status, MediaType contentType, byte[] body, byte[] gzip, String etag) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.proyecto.turisteando.warmup;
+
+import com.proyecto.turisteando.config.RequestActivityFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Keeps the instance warm after periods without traffic ({@code keep-warm.*}). It replaces the
+ * former self-ping every 10 minutes and only acts when no user request arrived during
+ * {@code keep-warm.idle-threshold-ms}:
+ * <ul>
+ *     <li>{@code internal}: runs {@link WarmUpService} in-process, reloading the caches and the
+ *     hot read paths the next user will hit;</li>
+ *     <li>{@code self-ping}: requests the readiness probe through {@code SERVER_URL}, for hosts that
+ *     suspend instances without inbound traffic;</li>
+ *     <li>{@code none}: disabled.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class KeepWarmScheduler {
+
+    public enum Strategy { NONE, INTERNAL, SELF_PING }
+
+    @Autowired
+    private WarmUpService warmUpService;
+
+    @Autowired
+    private RequestActivityFilter requestActivityFilter;
+
+    @Value("${keep-warm.strategy}")
+    private String strategy;
+
+    @Value("${keep-warm.idle-threshold-ms}")
+    private long idleThresholdMs;
+
+    @Value("${keep-warm.server-url}")
+    private String serverUrl;
+
+    private final RestClient restClient = RestClient.create();
+
+    @Scheduled(fixedDelayString = "${keep-warm.interval-ms}", initialDelayString = "${keep-warm.interval-ms}")
+    public void keepWarm() {
+        Strategy mode = Strategy.valueOf(strategy.trim().toUpperCase().replace('-', '_'));
+        if (mode == Strategy.NONE || requestActivityFilter.idleMillis() < idleThresholdMs) {
+            return;
+        }
+
+        if (mode == Strategy.INTERNAL) {
+            warmUpService.warmUp("keep-warm");
+            return;
+        }
+        try {
+            restClient.get().uri(serverUrl + "/actuator/health/readiness").retrieve().toBodilessEntity();
+            log.debug("Self-ping a {} completado", serverUrl);
+        } catch (Exception e) {
+            log.warn("No se pudo hacer el self-ping a {}: {}", serverUrl, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.proyecto.turisteando.warmup;
+
+import com.proyecto.turisteando.config.RequestActivityFilter;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warm-up phase on startup. It runs after the seed (runners run in order and this one is last) and
+ * before the readiness probe reports ACCEPTING_TRAFFIC, which Spring Boot only publishes once every
+ * runner has finished. It first reloads the caches through {@link WarmUpService} and then sends
+ * synthetic requests to the main read endpoints over the local port, so the filters, Jackson, the
+ * mappers and the search filters are JIT-compiled before the first user request. Those requests carry
+ * {@link RequestActivityFilter#WARM_UP_HEADER}, so they neither count as user activity nor reach the
+ * {@code http.server.requests} metrics.
+ * <p>
+ * The phase stops after {@code warm-up.iterations} rounds or {@code warm-up.max-duration}, whichever
+ * comes first, and its duration is published in the {@code warmup.startup.duration} gauge (ms).
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmUpRunner implements CommandLineRunner {
+
+    @Autowired
+    private WarmUpService warmUpService;
+
+    @Autowired
+    private TouristPlanRepository touristPlanRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${warm-up.iterations}")
+    private int iterations;
+
+    @Value("${warm-up.max-duration}")
+    private Duration maxDuration;
+
+    private final AtomicLong durationMs = new AtomicLong();
+
+    @Override
+    public void run(String... args) {
+        meterRegistry.gauge("warmup.startup.duration", durationMs);
+        long start = System.nanoTime();
+
+        warmUpService.warmUp("startup");
+
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            // Sin servidor web (por ejemplo, en pruebas con MockMvc) solo se calientan las cachés
+            durationMs.set((System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+
+        List<String> paths = endpoints();
+        RestClient restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .defaultHeader(RequestActivityFilter.WARM_UP_HEADER, "startup")
+                .build();
+        long deadline = start + maxDuration.toNanos();
+        int requests = 0;
+        int errors = 0;
+        int round = 0;
+        for (; round < iterations && System.nanoTime() < deadline; round++) {
+            for (String path : paths) {
+                requests++;
+                try {
+                    restClient.get().uri(path).retrieve().toBodilessEntity();
+                } catch (Exception e) {
+                    errors++;
+                    if (errors == 1) {
+                        log.warn("Calentamiento: la petición a {} falló: {}", path, e.getMessage());
+                    }
+                }
+            }
+        }
+
+        durationMs.set((System.nanoTime() - start) / 1_000_000);
+        log.info("Calentamiento de arranque: {} rondas, {} peticiones ({} con error) en {} ms",
+                round, requests, errors, durationMs.get());
+    }
+
+    private List<String> endpoints() {
+        List<String> paths = new ArrayList<>(List.of(
+                "/api/categories/all",
+                "/api/characteristics/all",
+                "/api/cities/all",
+                "/api/tourist-plans/all",
+                "/api/tourist-plans/search?title=a",
+                "/api/tourist-plans/search?categoryId=1&cityId=1"));
+        touristPlanRepository.findAll(PageRequest.of(0, 1)).stream()
+                .map(TouristPlanEntity::getId)
+                .forEach(id -> paths.add("/api/tourist-plans/" + id));
+        return paths;
+    }
+}
@@ -0,0 +1,57 @@
+package com.proyecto.turisteando.warmup;
+
+import com.proyecto.turisteando.dtos.requestDto.CityRequestDto;
+import com.proyecto.turisteando.dtos.responseDto.CityResponseDto;
+import com.proyecto.turisteando.services.CrudService;
+import com.proyecto.turisteando.services.ICategoryService;
+import com.proyecto.turisteando.services.ICharacteristicService;
+import com.proyecto.turisteando.services.ITouristPlanService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the main read paths inside the process: reference data caches (categories, characteristics
+ * and cities) are reloaded if they were evicted, and the tourist plan listing goes through the
+ * repository, the mappers and their caches. Each run is timed in {@code warmup.duration{reason}}.
+ */
+@Slf4j
+@Component
+public class WarmUpService {
+
+    @Autowired
+    private ICategoryService categoryService;
+
+    @Autowired
+    private ICharacteristicService characteristicService;
+
+    @Autowired
+    private CrudService<CityRequestDto, CityResponseDto, Long> cityService;
+
+    @Autowired
+    private ITouristPlanService touristPlanService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public long warmUp(String reason) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            categoryService.getAll();
+            characteristicService.getAll();
+            cityService.getAll();
+            touristPlanService.getAll();
+        } catch (RuntimeException e) {
+            // El calentamiento es una optimización: un fallo no debe afectar a la aplicación
+            log.warn("Calentamiento ({}) incompleto: {}", reason, e.getMessage());
+        }
+        long nanos = sample.stop(Timer.builder("warmup.duration")
+                .description("Duración del calentamiento de cachés y rutas de lectura")
+                .tag("reason", reason)
+                .register(meterRegistry));
+        log.info("Calentamiento ({}) completado en {} ms", reason, nanos / 1_000_000);
+        return nanos;
+    }
+}
@@ -0,0 +1,22 @@
+-- Lo que se agregó a las entidades después del esquema inicial: la tabla de refresh tokens y los
+-- índices de las búsquedas de reservas. No va en V1 porque las bases creadas con ddl-auto=update
+-- quedan marcadas en la versión 1 sin tenerlos.
+
+create table if not exists refresh_token (
+    id         bigint      not null auto_increment primary key,
+    token_hash varchar(64) not null,
+    family_id  varchar(36) not null,
+    user_id    bigint      not null,
+    expires_at datetime(6) not null,
+    revoked    bit         not null,
+    created_at datetime(6),
+    index idx_refresh_token_family (family_id),
+    index idx_refresh_token_expires_at (expires_at),
+    constraint uk_refresh_token_hash unique (token_hash),
+    constraint fk_refresh_token_user foreign key (user_id) references `user` (id)
+) engine=InnoDB;
+
+alter table reservation
+    add index idx_reservation_plan_start_date (id_plan, start_date),
+    add index idx_reservation_user_status (user_id, status),
+    add index idx_reservation_start_date (start_date);
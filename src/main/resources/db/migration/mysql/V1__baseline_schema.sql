@@ -0,0 +1,131 @@
+-- Esquema inicial: exactamente el que ddl-auto=update generaba con las entidades originales.
+-- En bases existentes no se ejecuta (spring.flyway.baseline-on-migrate las marca en la versión 1),
+-- así que no se toca: todo lo posterior va en una migración nueva.
+
+-- MySQL no tiene secuencias: Hibernate las emula con una tabla de una fila
+create table category_seq (next_val bigint) engine=InnoDB;
+insert into category_seq values (1);
+create table characteristic_seq (next_val bigint) engine=InnoDB;
+insert into characteristic_seq values (1);
+
+create table country (
+    id   bigint      not null auto_increment primary key,
+    name varchar(50) not null,
+    constraint uk_country_name unique (name)
+) engine=InnoDB;
+
+create table city (
+    id         bigint       not null auto_increment primary key,
+    name       varchar(100) not null,
+    country_id bigint       not null,
+    constraint uk_city_name unique (name),
+    constraint fk_city_country foreign key (country_id) references country (id)
+) engine=InnoDB;
+
+create table `user` (
+    id         bigint not null auto_increment primary key,
+    name       varchar(255),
+    last_name  varchar(255),
+    email      varchar(255),
+    password   varchar(255),
+    role       tinyint,
+    is_active  bit,
+    created_at datetime(6),
+    updated_at datetime(6),
+    constraint uk_user_email unique (email)
+) engine=InnoDB;
+
+create table category (
+    id          bigint       not null primary key,
+    name        varchar(255) not null,
+    status      tinyint      not null,
+    description varchar(255),
+    image_id    bigint,
+    constraint uk_category_name unique (name),
+    constraint uk_category_image unique (image_id)
+) engine=InnoDB;
+
+create table characteristic (
+    id       bigint       not null primary key,
+    name     varchar(255) not null,
+    status   tinyint      not null,
+    image_id bigint,
+    constraint uk_characteristic_name unique (name),
+    constraint uk_characteristic_image unique (image_id)
+) engine=InnoDB;
+
+create table tourist_plan (
+    id                      bigint       not null auto_increment primary key,
+    title                   varchar(100) not null,
+    description             varchar(500) not null,
+    price                   float(53),
+    seller                  varchar(255),
+    city_id                 bigint       not null,
+    category_id             bigint       not null,
+    availability_start_date date,
+    availability_end_date   date,
+    capacity                integer,
+    duration                varchar(255),
+    total_reviews           integer      not null,
+    total_stars             integer      not null,
+    is_active               bit          not null,
+    created_at              datetime(6),
+    updated_at              datetime(6),
+    constraint uk_tourist_plan_title unique (title),
+    constraint fk_tourist_plan_city foreign key (city_id) references city (id),
+    constraint fk_tourist_plan_category foreign key (category_id) references category (id)
+) engine=InnoDB;
+
+create table image (
+    id              bigint not null auto_increment primary key,
+    image_url       varchar(255),
+    tourist_plan_id bigint,
+    created_at      datetime(6),
+    updated_at      datetime(6),
+    constraint fk_image_tourist_plan foreign key (tourist_plan_id) references tourist_plan (id)
+) engine=InnoDB;
+
+alter table category
+    add constraint fk_category_image foreign key (image_id) references image (id);
+alter table characteristic
+    add constraint fk_characteristic_image foreign key (image_id) references image (id);
+
+create table tourist_plan_characteristic (
+    tourist_plan_id   bigint not null,
+    characteristic_id bigint not null,
+    constraint fk_tpc_tourist_plan foreign key (tourist_plan_id) references tourist_plan (id),
+    constraint fk_tpc_characteristic foreign key (characteristic_id) references characteristic (id)
+) engine=InnoDB;
+
+create table favorites_user_tourist_plan (
+    user_id         bigint not null,
+    tourist_plan_id bigint not null,
+    primary key (user_id, tourist_plan_id),
+    constraint fk_favorites_user foreign key (user_id) references `user` (id),
+    constraint fk_favorites_tourist_plan foreign key (tourist_plan_id) references tourist_plan (id)
+) engine=InnoDB;
+
+create table reviews (
+    id              bigint  not null auto_increment primary key,
+    user_id         bigint  not null,
+    tourist_plan_id bigint  not null,
+    rating          integer not null,
+    comment         varchar(500),
+    `date`          date,
+    status          tinyint,
+    constraint fk_reviews_user foreign key (user_id) references `user` (id),
+    constraint fk_reviews_tourist_plan foreign key (tourist_plan_id) references tourist_plan (id)
+) engine=InnoDB;
+
+create table reservation (
+    id_reservation bigint      not null auto_increment primary key,
+    id_plan        bigint      not null,
+    user_id        bigint      not null,
+    created_at     datetime(6) not null,
+    status         bit         not null,
+    start_date     date        not null,
+    end_date       date        not null,
+    people_count   integer     not null,
+    constraint fk_reservation_tourist_plan foreign key (id_plan) references tourist_plan (id),
+    constraint fk_reservation_user foreign key (user_id) references `user` (id)
+) engine=InnoDB;
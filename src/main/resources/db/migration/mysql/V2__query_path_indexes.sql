@@ -0,0 +1,11 @@
+-- Índices de las consultas frecuentes. InnoDB ya indexa cada clave foránea,
+-- por eso aquí solo se agregan los índices compuestos y los de columnas sin FK.
+
+-- Reseñas activas de un plan
+create index idx_reviews_plan_status on reviews (tourist_plan_id, status);
+
+-- ImageRepository.findByImageUrl
+create index idx_image_url on image (image_url);
+
+-- Listado de planes activos
+create index idx_tourist_plan_active on tourist_plan (is_active);
@@ -0,0 +1,22 @@
+-- Los ids pasan de IDENTITY a "secuencias" con optimizador pooled (allocationSize = 50), lo que permite
+-- a Hibernate agrupar los INSERT en lotes JDBC. MySQL no tiene secuencias: Hibernate las emula con una
+-- tabla de una fila. Cada una arranca en max(id) + 50, el extremo superior del primer bloque reservado.
+-- El auto_increment de las columnas id se conserva: no interfiere con ids explícitos y quitarlo
+-- obligaría a recrear las claves foráneas que las referencian.
+
+create table country_seq (next_val bigint) engine=InnoDB;
+insert into country_seq select coalesce(max(id), 0) + 50 from country;
+create table city_seq (next_val bigint) engine=InnoDB;
+insert into city_seq select coalesce(max(id), 0) + 50 from city;
+create table image_seq (next_val bigint) engine=InnoDB;
+insert into image_seq select coalesce(max(id), 0) + 50 from image;
+create table tourist_plan_seq (next_val bigint) engine=InnoDB;
+insert into tourist_plan_seq select coalesce(max(id), 0) + 50 from tourist_plan;
+create table user_seq (next_val bigint) engine=InnoDB;
+insert into user_seq select coalesce(max(id), 0) + 50 from `user`;
+create table reviews_seq (next_val bigint) engine=InnoDB;
+insert into reviews_seq select coalesce(max(id), 0) + 50 from reviews;
+create table reservation_seq (next_val bigint) engine=InnoDB;
+insert into reservation_seq select coalesce(max(id_reservation), 0) + 50 from reservation;
+create table refresh_token_seq (next_val bigint) engine=InnoDB;
+insert into refresh_token_seq select coalesce(max(id), 0) + 50 from refresh_token;
@@ -0,0 +1,7 @@
+-- Columnas de versión para el bloqueo optimista (@Version) de las entidades editables.
+-- Las filas existentes arrancan en 0; Hibernate incrementa el valor en cada UPDATE.
+
+alter table category add column version bigint not null default 0;
+alter table tourist_plan add column version bigint not null default 0;
+alter table `user` add column version bigint not null default 0;
+alter table reviews add column version bigint not null default 0;
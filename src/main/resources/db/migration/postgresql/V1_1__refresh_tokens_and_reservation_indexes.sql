@@ -0,0 +1,23 @@
+-- Lo que se agregó a las entidades después del esquema inicial: la tabla de refresh tokens y los
+-- índices de las búsquedas de reservas. No va en V1 porque las bases creadas con ddl-auto=update
+-- quedan marcadas en la versión 1 sin tenerlos. "if not exists" por si alguna base de desarrollo
+-- ya los recibió de ddl-auto=update.
+
+create table if not exists refresh_token (
+    id         bigint generated by default as identity primary key,
+    token_hash varchar(64)  not null,
+    family_id  varchar(36)  not null,
+    user_id    bigint       not null,
+    expires_at timestamp(6) not null,
+    revoked    boolean      not null,
+    created_at timestamp(6),
+    constraint uk_refresh_token_hash unique (token_hash),
+    constraint fk_refresh_token_user foreign key (user_id) references "user" (id)
+);
+
+create index if not exists idx_refresh_token_family on refresh_token (family_id);
+create index if not exists idx_refresh_token_expires_at on refresh_token (expires_at);
+
+create index if not exists idx_reservation_plan_start_date on reservation (id_plan, start_date);
+create index if not exists idx_reservation_user_status on reservation (user_id, status);
+create index if not exists idx_reservation_start_date on reservation (start_date);
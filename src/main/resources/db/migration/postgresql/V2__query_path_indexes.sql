@@ -0,0 +1,24 @@
+-- Índices de las consultas frecuentes. "if not exists" porque las bases creadas con
+-- ddl-auto=update (marcadas como baseline) pueden tener alguno de los índices de las entidades.
+
+-- Reseñas activas de un plan
+create index if not exists idx_reviews_plan_status on reviews (tourist_plan_id, status);
+create index if not exists idx_reviews_user on reviews (user_id);
+
+-- Favoritos: la PK (user_id, tourist_plan_id) cubre la búsqueda por usuario, este índice la inversa
+create index if not exists idx_favorites_tourist_plan on favorites_user_tourist_plan (tourist_plan_id);
+
+-- ImageRepository.findByImageUrl y la carga de imágenes de cada plan
+create index if not exists idx_image_url on image (image_url);
+create index if not exists idx_image_tourist_plan on image (tourist_plan_id);
+
+-- Características de cada plan (PostgreSQL no indexa las claves foráneas)
+create index if not exists idx_tpc_tourist_plan on tourist_plan_characteristic (tourist_plan_id);
+create index if not exists idx_tpc_characteristic on tourist_plan_characteristic (characteristic_id);
+
+-- Listado de planes activos y filtros por ciudad / categoría
+create index if not exists idx_tourist_plan_active on tourist_plan (is_active);
+create index if not exists idx_tourist_plan_city on tourist_plan (city_id);
+create index if not exists idx_tourist_plan_category on tourist_plan (category_id);
+
+create index if not exists idx_refresh_token_user on refresh_token (user_id);
@@ -0,0 +1,28 @@
+-- Los ids pasan de IDENTITY a secuencias con optimizador pooled (allocationSize = 50), lo que permite
+-- a Hibernate agrupar los INSERT en lotes JDBC. Cada secuencia arranca en max(id) + 50: con el
+-- optimizador pooled el valor de la secuencia es el extremo superior del bloque que se reserva.
+
+alter table country alter column id drop identity if exists;
+create sequence country_seq increment by 50;
+select setval('country_seq', (select coalesce(max(id), 0) + 50 from country), false);
+alter table city alter column id drop identity if exists;
+create sequence city_seq increment by 50;
+select setval('city_seq', (select coalesce(max(id), 0) + 50 from city), false);
+alter table image alter column id drop identity if exists;
+create sequence image_seq increment by 50;
+select setval('image_seq', (select coalesce(max(id), 0) + 50 from image), false);
+alter table tourist_plan alter column id drop identity if exists;
+create sequence tourist_plan_seq increment by 50;
+select setval('tourist_plan_seq', (select coalesce(max(id), 0) + 50 from tourist_plan), false);
+alter table "user" alter column id drop identity if exists;
+create sequence user_seq increment by 50;
+select setval('user_seq', (select coalesce(max(id), 0) + 50 from "user"), false);
+alter table reviews alter column id drop identity if exists;
+create sequence reviews_seq increment by 50;
+select setval('reviews_seq', (select coalesce(max(id), 0) + 50 from reviews), false);
+alter table reservation alter column id_reservation drop identity if exists;
+create sequence reservation_seq increment by 50;
+select setval('reservation_seq', (select coalesce(max(id_reservation), 0) + 50 from reservation), false);
+alter table refresh_token alter column id drop identity if exists;
+create sequence refresh_token_seq increment by 50;
+select setval('refresh_token_seq', (select coalesce(max(id), 0) + 50 from refresh_token), false);
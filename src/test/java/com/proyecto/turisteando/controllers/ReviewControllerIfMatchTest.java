@@ -0,0 +1,130 @@
+package com.proyecto.turisteando.controllers;
+
+import com.proyecto.turisteando.dtos.requestDto.ReviewRequestDto;
+import com.proyecto.turisteando.dtos.responseDto.ReviewResponseDto;
+import com.proyecto.turisteando.entities.ReviewEntity;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.handlers.GlobalExceptionHandler;
+import com.proyecto.turisteando.mappers.ReviewMapper;
+import com.proyecto.turisteando.repositories.IUserRepository;
+import com.proyecto.turisteando.repositories.ReservationRepository;
+import com.proyecto.turisteando.repositories.ReviewRepository;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import com.proyecto.turisteando.services.implement.ReviewServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * If-Match handling on a versioned update, from the header down to the service's version check.
+ * The review is stored at version 4; a successful update leaves it at 5.
+ */
+class ReviewControllerIfMatchTest {
+
+    private static final long REVIEW_ID = 1L;
+    private static final String BODY = "{\"idUser\":7,\"planId\":3,\"rating\":5,\"comment\":\"Excelente\"}";
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ReviewEntity review = ReviewEntity.builder()
+                .id(REVIEW_ID)
+                .user(UserEntity.builder().id(7L).build())
+                .touristPlan(TouristPlanEntity.builder().id(3L).totalStars(4).build())
+                .rating(4)
+                .version(4L)
+                .build();
+        when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(review));
+        when(reviewRepository.saveAndFlush(any(ReviewEntity.class))).thenAnswer(invocation -> {
+            ReviewEntity saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return saved;
+        });
+
+        ReviewMapper reviewMapper = mock(ReviewMapper.class);
+        when(reviewMapper.partialUpdate(any(ReviewRequestDto.class), any(ReviewEntity.class))).thenAnswer(invocation -> {
+            ReviewEntity target = invocation.getArgument(1);
+            target.setRating(invocation.<ReviewRequestDto>getArgument(0).getRating());
+            return target;
+        });
+        when(reviewMapper.toResponseDto(any(ReviewEntity.class))).thenAnswer(invocation -> {
+            ReviewEntity entity = invocation.getArgument(0);
+            return new ReviewResponseDto(entity.getId(), entity.getRating(), entity.getDate(), entity.getComment(), null,
+                    entity.getVersion());
+        });
+
+        ReviewServiceImpl reviewService = new ReviewServiceImpl(reviewRepository, mock(TouristPlanRepository.class),
+                mock(IUserRepository.class), reviewMapper, mock(ReservationRepository.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReviewController(reviewService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void updatesWhenIfMatchHasCurrentVersion() throws Exception {
+        update("\"4\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    void updatesWhenAnyTagOfListMatches() throws Exception {
+        update("\"3\", \"4\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    void updatesWhenIfMatchIsWildcard() throws Exception {
+        update("*").andExpect(status().isOk());
+    }
+
+    @Test
+    void updatesWithoutIfMatch() throws Exception {
+        update(null).andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsStaleVersion() throws Exception {
+        update("\"3\"").andExpect(status().isPreconditionFailed());
+        update("\"2\", \"3\"").andExpect(status().isPreconditionFailed());
+
+        verify(reviewRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void rejectsWeakOrMalformedTags() throws Exception {
+        update("W/\"4\"").andExpect(status().isPreconditionFailed());
+        update("\"abc\"").andExpect(status().isPreconditionFailed());
+
+        verify(reviewRepository, never()).saveAndFlush(any());
+    }
+
+    private ResultActions update(String ifMatch) throws Exception {
+        var request = put("/api/reviews/update/{id}", REVIEW_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,44 @@
+package com.proyecto.turisteando.loadtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Baseline before the pooled sequences: plan and image ids generated with IDENTITY. Batching stays
+ * enabled, but Hibernate needs each generated id right after its INSERT, so it sends them one by one.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.mapping-resources=loadtest-identity-orm.xml",
+        // El seed ajusta tourist_plan_seq e image_seq después de insertar; con IDENTITY no se usan, pero deben existir
+        "spring.datasource.url=jdbc:h2:mem:loadtest-${random.uuid};DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                + "DB_CLOSE_DELAY=-1;INIT=create sequence if not exists tourist_plan_seq\\\\;create sequence if not exists image_seq"})
+class IdentityInsertBatchingLoadTest extends InsertBatchingLoadTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // El seed inserta ids explícitos y H2 no adelanta la columna IDENTITY por ellos
+    @BeforeEach
+    void restartIdentityAfterSeed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String table : List.of("tourist_plan", "image")) {
+                long next = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from " + table, Long.class);
+                jdbcTemplate.execute("alter table " + table + " alter column id restart with " + next);
+            }
+        });
+    }
+
+    @Override
+    protected boolean identityIds() {
+        return true;
+    }
+}
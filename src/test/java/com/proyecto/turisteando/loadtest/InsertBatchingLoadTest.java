@@ -0,0 +1,168 @@
+package com.proyecto.turisteando.loadtest;
+
+import com.proyecto.turisteando.entities.CategoryEntity;
+import com.proyecto.turisteando.entities.CityEntity;
+import com.proyecto.turisteando.entities.ImageEntity;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.repositories.CategoryRepository;
+import com.proyecto.turisteando.repositories.CityRepository;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the bulk and single-plan insert paths: {@code saveAll} of {@code loadtest.plans} plans
+ * with five images each in one transaction, and {@code loadtest.insert-batching.single-plans} plans
+ * created one per transaction, as the create endpoint does. The subclasses run with JDBC batching
+ * disabled and enabled, and with IDENTITY ids as the baseline, and write
+ * {@code target/loadtest/insert-batching-<mode>.csv} with the elapsed time and the number of JDBC
+ * statements Hibernate prepared.
+ */
+@Tag("loadtest")
+@SpringBootTest
+@ActiveProfiles({"dev", "loadtest"})
+@Import(LoadTestStubs.class)
+@Slf4j
+abstract class InsertBatchingLoadTest {
+
+    private static final int IMAGES_PER_PLAN = 5;
+
+    @Autowired
+    private TouristPlanRepository touristPlanRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${loadtest.plans}")
+    private int plans;
+
+    @Value("${loadtest.insert-batching.single-plans}")
+    private int singlePlans;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void insertBatching() throws IOException {
+        boolean batched = batchSize > 1 && !identityIds();
+        String mode = identityIds() ? "identity" : batched ? "batched" : "unbatched";
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        CityEntity city = cityRepository.findAll().get(0);
+        CategoryEntity category = categoryRepository.findAll().get(0);
+
+        // Una vuelta sin medir: JIT, pool de conexiones y sentencias preparadas
+        insertBulk("Plan de calentamiento masivo ", city, category);
+        insertSingle("Plan de calentamiento individual ", city, category);
+
+        List<String> lines = new ArrayList<>();
+        lines.add("path,plans,rows,millis,statements");
+
+        statistics.clear();
+        long start = System.nanoTime();
+        insertBulk("Plan masivo ", city, category);
+        lines.add(line("bulk", plans, start, statistics));
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        start = System.nanoTime();
+        insertSingle("Plan individual ", city, category);
+        lines.add(line("single", singlePlans, start, statistics));
+
+        Path output = Path.of("target", "loadtest", "insert-batching-" + mode + ".csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, lines);
+        lines.forEach(line -> log.info("[loadtest:{}] {}", mode, line));
+
+        // Con lotes de 50 los INSERT de planes e imágenes ocupan una fracción de las sentencias;
+        // con IDENTITY Hibernate los envía uno por uno aunque batch_size esté configurado
+        int rows = plans * (1 + IMAGES_PER_PLAN);
+        if (batched) {
+            assertThat(bulkStatements).isLessThan(rows / 2);
+        } else {
+            assertThat(bulkStatements).isGreaterThanOrEqualTo(rows);
+        }
+    }
+
+    private void insertBulk(String titlePrefix, CityEntity city, CategoryEntity category) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<TouristPlanEntity> touristPlans = new ArrayList<>();
+            for (int i = 0; i < plans; i++) {
+                touristPlans.add(plan(titlePrefix + i, city, category));
+            }
+            touristPlanRepository.saveAll(touristPlans);
+        });
+    }
+
+    private void insertSingle(String titlePrefix, CityEntity city, CategoryEntity category) {
+        for (int i = 0; i < singlePlans; i++) {
+            TouristPlanEntity plan = plan(titlePrefix + i, city, category);
+            transactionTemplate.executeWithoutResult(status -> touristPlanRepository.save(plan));
+        }
+    }
+
+    /**
+     * Whether the subclass maps the plan and image ids with IDENTITY instead of the pooled sequences.
+     */
+    protected boolean identityIds() {
+        return false;
+    }
+
+    private static String line(String path, int count, long start, Statistics statistics) {
+        return String.join(",", path, String.valueOf(count), String.valueOf(count * (1 + IMAGES_PER_PLAN)),
+                String.valueOf((System.nanoTime() - start) / 1_000_000), String.valueOf(statistics.getPrepareStatementCount()));
+    }
+
+    private static TouristPlanEntity plan(String title, CityEntity city, CategoryEntity category) {
+        LocalDate today = LocalDate.now();
+        TouristPlanEntity plan = TouristPlanEntity.builder()
+                .title(title)
+                .description("Recorrido con guía local, transporte y alimentación incluidos.")
+                .price(250.0)
+                .seller("Vendedor de carga")
+                .city(city)
+                .category(category)
+                .availabilityStartDate(today)
+                .availabilityEndDate(today.plusYears(1))
+                .capacity(20)
+                .duration("3 días")
+                .build();
+        List<ImageEntity> images = new ArrayList<>();
+        for (int j = 0; j < IMAGES_PER_PLAN; j++) {
+            images.add(ImageEntity.builder()
+                    .imageUrl("https://res.cloudinary.test/loadtest/" + title.replace(' ', '-') + "-" + j + ".jpg")
+                    .touristPlan(plan)
+                    .build());
+        }
+        plan.setImages(images);
+        return plan;
+    }
+}
@@ -0,0 +1,92 @@
+package com.proyecto.turisteando.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the latency of every request per endpoint and writes the summary as CSV.
+ * One instance per worker thread; the workers' recorders are merged at the end.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        Samples endpointSamples = samples.computeIfAbsent(endpoint, key -> new Samples());
+        endpointSamples.add(latencyNanos);
+        if (error) {
+            endpointSamples.errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, otherSamples) -> {
+            Samples endpointSamples = samples.computeIfAbsent(endpoint, key -> new Samples());
+            for (int i = 0; i < otherSamples.size; i++) {
+                endpointSamples.add(otherSamples.latencies[i]);
+            }
+            endpointSamples.errors += otherSamples.errors;
+        });
+    }
+
+    List<EndpointSummary> summarize(double durationSeconds) {
+        List<EndpointSummary> summaries = new ArrayList<>();
+        samples.forEach((endpoint, endpointSamples) -> {
+            long[] sorted = Arrays.copyOf(endpointSamples.latencies, endpointSamples.size);
+            Arrays.sort(sorted);
+            summaries.add(new EndpointSummary(
+                    endpoint,
+                    sorted.length,
+                    endpointSamples.errors,
+                    sorted.length / durationSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0));
+        });
+        return summaries;
+    }
+
+    static void writeCsv(Path file, List<EndpointSummary> summaries) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,rps,p50_ms,p99_ms,max_ms");
+        for (EndpointSummary summary : summaries) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.rps(),
+                    summary.p50Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record EndpointSummary(String endpoint, long requests, long errors, double rps,
+                           double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.proyecto.turisteando.loadtest;
+
+import com.proyecto.turisteando.exceptions.customExceptions.FileUploadException;
+import com.proyecto.turisteando.services.FileUploadService;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process replacements for Cloudinary and SMTP. They only wait the configured latency, so the
+ * load test measures the application and not the external services.
+ */
+@TestConfiguration
+public class LoadTestStubs {
+
+    @Bean
+    @Primary
+    public FileUploadService stubFileUploadService(@Value("${loadtest.stub.upload-latency-ms}") long latencyMs) {
+        return new FileUploadService() {
+            @Override
+            public List<String> saveImage(List<MultipartFile> multipartFiles) throws FileUploadException {
+                return uploadImage(multipartFiles);
+            }
+
+            @Override
+            public List<String> uploadImage(List<MultipartFile> multipartFiles) throws FileUploadException {
+                pause(latencyMs);
+                List<String> urls = new ArrayList<>();
+                for (int i = 0; i < multipartFiles.size(); i++) {
+                    urls.add("https://res.cloudinary.test/loadtest/" + UUID.randomUUID() + ".jpg");
+                }
+                return urls;
+            }
+
+            @Override
+            public List<String> updateImage(List<String> existingImages, List<String> imagesToDelete, List<MultipartFile> newImages) throws FileUploadException {
+                List<String> urls = new ArrayList<>(existingImages);
+                urls.removeAll(imagesToDelete);
+                urls.addAll(uploadImage(newImages));
+                return urls;
+            }
+
+            @Override
+            public void deleteExistingImages(List<String> imagesToDelete) throws FileUploadException {
+                pause(latencyMs);
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    public StubMailSender stubMailSender(@Value("${loadtest.stub.mail-latency-ms}") long latencyMs) {
+        return new StubMailSender(latencyMs);
+    }
+
+    /**
+     * Builds real MIME messages (so the templates are rendered) but never opens a connection.
+     */
+    public static class StubMailSender extends JavaMailSenderImpl {
+
+        private final long latencyMs;
+        private final AtomicLong sent = new AtomicLong();
+
+        StubMailSender(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            pause(latencyMs);
+            sent.addAndGet(mimeMessages.length);
+        }
+
+        public long getSent() {
+            return sent.get();
+        }
+    }
+
+    private static void pause(long latencyMs) {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
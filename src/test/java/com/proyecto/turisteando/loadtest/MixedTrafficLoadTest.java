@@ -0,0 +1,292 @@
+package com.proyecto.turisteando.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.turisteando.entities.CategoryEntity;
+import com.proyecto.turisteando.entities.CityEntity;
+import com.proyecto.turisteando.entities.ImageEntity;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.entities.UserEntity;
+import com.proyecto.turisteando.entities.enums.Role;
+import com.proyecto.turisteando.repositories.CategoryRepository;
+import com.proyecto.turisteando.repositories.CityRepository;
+import com.proyecto.turisteando.repositories.IUserRepository;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the application on H2 with Cloudinary and SMTP stubbed, seeds a
+ * dataset of configurable size and drives a mix of searches, logins and reservations from
+ * concurrent clients. The p50/p99 latency and throughput per endpoint are written to
+ * {@code target/loadtest/loadtest-report.csv} so CI can diff them between builds.
+ * <p>
+ * Every endpoint must stay under 1% errors. Logins rejected with 503 by the BCrypt pool are load
+ * shedding, not errors: they are reported as {@code auth.login.shed} and checked against
+ * {@code loadtest.login-shed-max-percent} of all logins.
+ * <p>
+ * Excluded from the normal build; run it with {@code mvn -Ploadtest test}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"dev", "loadtest"})
+@Import(LoadTestStubs.class)
+@Slf4j
+class MixedTrafficLoadTest {
+
+    private static final String PASSWORD = "LoadTest123*";
+    private static final String LOGIN = "auth.login";
+    private static final String LOGIN_SHED = "auth.login.shed";
+    private static final String[] SEARCH_TERMS = {"playa", "montaña", "ciudad", "aventura", "cultura", "selva"};
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.plans}")
+    private int plans;
+
+    @Value("${loadtest.users}")
+    private int users;
+
+    @Value("${loadtest.concurrency}")
+    private int concurrency;
+
+    @Value("${loadtest.login-shed-max-percent}")
+    private int loginShedMaxPercent;
+
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Autowired
+    private TouristPlanRepository touristPlanRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> planIds = new ArrayList<>();
+    private final List<UserEntity> seededUsers = new ArrayList<>();
+    private final List<String> accessTokens = new ArrayList<>();
+
+    @Test
+    void mixedTraffic() throws Exception {
+        seed();
+        for (UserEntity user : seededUsers) {
+            accessTokens.add(login(user.getEmail()));
+        }
+
+        // Calentamiento sin registrar: JIT, pools de conexiones y cachés
+        runTraffic(Duration.ofSeconds(warmupSeconds));
+        LatencyRecorder recorder = runTraffic(Duration.ofSeconds(durationSeconds));
+
+        List<LatencyRecorder.EndpointSummary> summaries = recorder.summarize(durationSeconds);
+        LatencyRecorder.writeCsv(Path.of("target", "loadtest", "loadtest-report.csv"), summaries);
+        summaries.forEach(summary -> log.info("[loadtest] {}", summary));
+
+        Map<String, LatencyRecorder.EndpointSummary> byEndpoint = summaries.stream()
+                .collect(Collectors.toMap(LatencyRecorder.EndpointSummary::endpoint, Function.identity()));
+        assertThat(byEndpoint).containsKeys(LOGIN, "reservations.create", "tourist-plans.search");
+        for (LatencyRecorder.EndpointSummary summary : summaries) {
+            assertThat(summary.errors())
+                    .as("errores en %s", summary.endpoint())
+                    .isLessThanOrEqualTo(summary.requests() / 100);
+        }
+        long shed = byEndpoint.containsKey(LOGIN_SHED) ? byEndpoint.get(LOGIN_SHED).requests() : 0;
+        long logins = byEndpoint.get(LOGIN).requests() + shed;
+        assertThat(shed)
+                .as("logins rechazados por el pool de BCrypt (auth.bcrypt.*) de %d", logins)
+                .isLessThanOrEqualTo(logins * loginShedMaxPercent / 100);
+    }
+
+    private void seed() {
+        List<CityEntity> cities = cityRepository.findAll();
+        List<CategoryEntity> categories = categoryRepository.findAll();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+
+        List<TouristPlanEntity> touristPlans = new ArrayList<>();
+        for (int i = 0; i < plans; i++) {
+            String term = SEARCH_TERMS[i % SEARCH_TERMS.length];
+            TouristPlanEntity plan = TouristPlanEntity.builder()
+                    .title("Plan de " + term + " " + i)
+                    .description("Recorrido de " + term + " con guía local, transporte y alimentación incluidos.")
+                    .price((double) (50 + random.nextInt(950)))
+                    .seller("Vendedor " + (i % 20))
+                    .city(cities.get(random.nextInt(cities.size())))
+                    .category(categories.get(random.nextInt(categories.size())))
+                    .availabilityStartDate(today)
+                    .availabilityEndDate(today.plusYears(1))
+                    .capacity(10 + random.nextInt(30))
+                    .duration((1 + random.nextInt(7)) + " días")
+                    .build();
+            List<ImageEntity> images = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                images.add(ImageEntity.builder()
+                        .imageUrl("https://res.cloudinary.test/loadtest/plan-" + i + "-" + j + ".jpg")
+                        .touristPlan(plan)
+                        .build());
+            }
+            plan.setImages(images);
+            touristPlans.add(plan);
+        }
+        touristPlanRepository.saveAll(touristPlans).forEach(plan -> planIds.add(plan.getId()));
+
+        // Todos los usuarios comparten la contraseña, basta con calcular el hash una vez
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<UserEntity> usersToSave = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            usersToSave.add(UserEntity.builder()
+                    .name("Usuario")
+                    .lastName("Carga " + i)
+                    .email("loadtest-" + i + "@turisteando.test")
+                    .password(passwordHash)
+                    .role(Role.BUYER)
+                    .build());
+        }
+        seededUsers.addAll(userRepository.saveAll(usersToSave));
+    }
+
+    private LatencyRecorder runTraffic(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        sendOne(recorder);
+                    }
+                    return recorder;
+                }));
+            }
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Picks a request following the expected production mix: mostly searches, some logins and
+     * a few reservations.
+     */
+    private void sendOne(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        String endpoint;
+        HttpRequest request;
+
+        if (roll < 70) {
+            endpoint = "tourist-plans.search";
+            String term = URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8);
+            request = HttpRequest.newBuilder(uri("/api/tourist-plans/search?title=" + term))
+                    .GET()
+                    .build();
+        } else if (roll < 85) {
+            endpoint = LOGIN;
+            String email = seededUsers.get(random.nextInt(seededUsers.size())).getEmail();
+            request = jsonPost("/api/auth/login", loginBody(email), null);
+        } else {
+            endpoint = "reservations.create";
+            int userIndex = random.nextInt(seededUsers.size());
+            LocalDate startDate = LocalDate.now().plusDays(1 + random.nextInt(200));
+            String body = String.format(
+                    "{\"touristPlanId\":%d,\"userId\":%d,\"status\":true,\"startDate\":\"%s\",\"endDate\":\"%s\",\"peopleCount\":%d}",
+                    planIds.get(random.nextInt(planIds.size())), seededUsers.get(userIndex).getId(),
+                    startDate, startDate.plusDays(2), 1 + random.nextInt(4));
+            request = jsonPost("/api/reservations/create", body, accessTokens.get(userIndex));
+        }
+
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+        } catch (Exception e) {
+            status = -1;
+        }
+        long latency = System.nanoTime() - start;
+        if (LOGIN.equals(endpoint) && status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            recorder.record(LOGIN_SHED, latency, false);
+        } else {
+            recorder.record(endpoint, latency, status < 0 || status >= 400);
+        }
+    }
+
+    private String login(String email) throws Exception {
+        HttpResponse<String> response = httpClient.send(jsonPost("/api/auth/login", loginBody(email), null),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("login de %s", email).isEqualTo(200);
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("data").path("accessToken").asText();
+    }
+
+    private String loginBody(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private HttpRequest jsonPost(String path, String body, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
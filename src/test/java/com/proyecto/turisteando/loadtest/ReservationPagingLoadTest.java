@@ -0,0 +1,183 @@
+package com.proyecto.turisteando.loadtest;
+
+import com.proyecto.turisteando.repositories.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reservation lookups on a seeded table of {@code loadtest.reservation-paging.rows} rows (1M by
+ * default): by plan, by user and status, and by start date range. Each lookup runs three times:
+ * <ul>
+ *     <li>{@code list.no-index}: the unbounded List method on a table without secondary indexes,
+ *     as PostgreSQL had it (it does not index foreign keys);</li>
+ *     <li>{@code list.indexed}: the same List method once the indexes declared on ReservationEntity exist;</li>
+ *     <li>{@code page.indexed}: the Page/Slice method with the default page of the endpoints (20 rows by startDate).</li>
+ * </ul>
+ * The latencies go to {@code target/loadtest/reservation-paging.csv}.
+ */
+@Tag("loadtest")
+@SpringBootTest
+@ActiveProfiles({"dev", "loadtest"})
+@Import(LoadTestStubs.class)
+@Slf4j
+class ReservationPagingLoadTest {
+
+    // Ids lejos de los del seed para no chocar con los datos de referencia
+    private static final long ID_OFFSET = 10_000_000L;
+    private static final int INSERT_BATCH = 5_000;
+    private static final int DATE_SPAN_DAYS = 3 * 365;
+    private static final int RANGE_DAYS = 7;
+    private static final List<String> DECLARED_INDEXES = List.of(
+            "create index idx_reservation_plan_start_date on reservation (id_plan, start_date)",
+            "create index idx_reservation_user_status on reservation (user_id, status)",
+            "create index idx_reservation_start_date on reservation (start_date)");
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // El pool entrega conexiones sin autocommit: sin transacción, los inserts se descartan al devolverlas
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${loadtest.reservation-paging.rows}")
+    private int rows;
+
+    @Value("${loadtest.reservation-paging.plans}")
+    private int plans;
+
+    @Value("${loadtest.reservation-paging.users}")
+    private int users;
+
+    @Value("${loadtest.reservation-paging.lookups}")
+    private int lookups;
+
+    private final LocalDate firstDate = LocalDate.now().minusYears(1);
+
+    @Test
+    void reservationLookups() throws Exception {
+        seed();
+        assertThat(reservationRepository.count()).isGreaterThanOrEqualTo(rows);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        transactionTemplate.executeWithoutResult(status -> dropSecondaryIndexes());
+        measure(recorder, "list.no-index", false);
+        transactionTemplate.executeWithoutResult(status -> DECLARED_INDEXES.forEach(jdbcTemplate::execute));
+        measure(recorder, "list.indexed", false);
+        measure(recorder, "page.indexed", true);
+
+        List<LatencyRecorder.EndpointSummary> summaries = recorder.summarize(1);
+        LatencyRecorder.writeCsv(Path.of("target", "loadtest", "reservation-paging.csv"), summaries);
+        summaries.forEach(summary -> log.info("[loadtest:reservation-paging] {}", summary));
+    }
+
+    private void measure(LatencyRecorder recorder, String variant, boolean paged) {
+        Pageable page = PageRequest.of(0, 20, Sort.by("startDate"));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Una vuelta sin registrar por variante: JIT y planes de consulta
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < lookups; i++) {
+                long planId = ID_OFFSET + random.nextInt(plans);
+                long userId = ID_OFFSET + random.nextInt(users);
+                LocalDate from = firstDate.plusDays(random.nextInt(DATE_SPAN_DAYS - RANGE_DAYS));
+                LocalDate to = from.plusDays(RANGE_DAYS);
+                LatencyRecorder target = pass == 0 ? new LatencyRecorder() : recorder;
+                if (paged) {
+                    time(target, "by-plan." + variant, () -> reservationRepository.findByTouristPlanId(planId, page).getNumberOfElements());
+                    time(target, "by-user-status." + variant, () -> reservationRepository.findByUserIdAndStatus(userId, true, page).getNumberOfElements());
+                    time(target, "by-date-range." + variant, () -> reservationRepository.findByStartDateBetween(from, to, page).getNumberOfElements());
+                } else {
+                    time(target, "by-plan." + variant, () -> reservationRepository.findByTouristPlanId(planId).size());
+                    time(target, "by-user-status." + variant, () -> reservationRepository.findByUserIdAndStatus(userId, true).size());
+                    time(target, "by-date-range." + variant, () -> reservationRepository.findByStartDateBetween(from, to).size());
+                }
+            }
+        }
+    }
+
+    private static void time(LatencyRecorder recorder, String name, Supplier<Integer> lookup) {
+        long start = System.nanoTime();
+        int found = lookup.get();
+        recorder.record(name, System.nanoTime() - start, found == 0);
+    }
+
+    private void seed() {
+        long cityId = jdbcTemplate.queryForObject("select min(id) from city", Long.class);
+        long categoryId = jdbcTemplate.queryForObject("select min(id) from category", Long.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> userRows = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            userRows.add(new Object[]{ID_OFFSET + i, "paging-" + i + "@turisteando.test", "-", 1, true, now, 0});
+        }
+        insert("insert into \"user\" (id, email, password, role, is_active, created_at, version)"
+                + " values (?, ?, ?, ?, ?, ?, ?)", userRows);
+
+        List<Object[]> planRows = new ArrayList<>();
+        for (int i = 0; i < plans; i++) {
+            planRows.add(new Object[]{ID_OFFSET + i, "Plan paginado " + i, "Plan para la prueba de paginación",
+                    cityId, categoryId, 0, 0, true, now, 0});
+        }
+        insert("insert into tourist_plan (id, title, description, city_id, category_id,"
+                + " total_reviews, total_stars, is_active, created_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", planRows);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String insert = "insert into reservation (id_reservation, id_plan, user_id, created_at, status, start_date,"
+                + " end_date, people_count) values (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            LocalDate start = firstDate.plusDays(random.nextInt(DATE_SPAN_DAYS));
+            batch.add(new Object[]{ID_OFFSET + i, ID_OFFSET + random.nextInt(plans), ID_OFFSET + random.nextInt(users),
+                    now, random.nextInt(4) != 0, Date.valueOf(start), Date.valueOf(start.plusDays(2)), 1 + random.nextInt(4)});
+            if (batch.size() == INSERT_BATCH) {
+                insert(insert, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(insert, batch);
+        }
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+    }
+
+    /**
+     * Leaves the reservation table with its primary key only. H2 backs every foreign key with an
+     * index (as MySQL does), so the foreign keys go too; PostgreSQL creates none for them.
+     */
+    private void dropSecondaryIndexes() {
+        jdbcTemplate.queryForList("select constraint_name from information_schema.table_constraints"
+                        + " where table_name = 'reservation' and constraint_type = 'FOREIGN KEY'", String.class)
+                .forEach(name -> jdbcTemplate.execute("alter table reservation drop constraint \"" + name + "\""));
+        jdbcTemplate.queryForList("select index_name from information_schema.indexes"
+                        + " where table_name = 'reservation' and index_type_name = 'INDEX'", String.class)
+                .forEach(name -> jdbcTemplate.execute("drop index \"" + name + "\""));
+    }
+}
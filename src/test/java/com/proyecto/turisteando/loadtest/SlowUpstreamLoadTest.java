@@ -0,0 +1,138 @@
+package com.proyecto.turisteando.loadtest;
+
+import com.proyecto.turisteando.exceptions.customExceptions.FileUploadException;
+import com.proyecto.turisteando.services.FileUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives many concurrent clients against an endpoint that blocks on a slow upstream (the
+ * Cloudinary stub waits {@code loadtest.slow-upstream.latency-ms}). The two subclasses run the same
+ * traffic with Tomcat on platform threads and on virtual threads and write
+ * {@code target/loadtest/slow-upstream-<mode>.csv}, so the throughput of both modes can be compared.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"dev", "loadtest"})
+@Import({LoadTestStubs.class, SlowUpstreamLoadTest.SlowUpstreamController.class})
+@Slf4j
+abstract class SlowUpstreamLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.slow-upstream.concurrency}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.slow-upstream.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void slowUpstream() throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        runTraffic(Duration.ofSeconds(warmupSeconds));
+        LatencyRecorder recorder = runTraffic(Duration.ofSeconds(durationSeconds));
+
+        List<LatencyRecorder.EndpointSummary> summaries = recorder.summarize(durationSeconds);
+        LatencyRecorder.writeCsv(Path.of("target", "loadtest", "slow-upstream-" + mode + ".csv"), summaries);
+        summaries.forEach(summary -> log.info("[loadtest:{}] {}", mode, summary));
+
+        // El endpoint informa en qué tipo de hilo corrió, así se comprueba que el modo realmente cambió
+        assertThat(summaries).extracting(LatencyRecorder.EndpointSummary::endpoint)
+                .containsExactly("slow-upstream." + mode);
+        assertThat(summaries.get(0).errors()).isLessThanOrEqualTo(summaries.get(0).requests() / 100);
+    }
+
+    private LatencyRecorder runTraffic(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        // Los clientes corren en hilos virtuales para que el generador de carga no sea el cuello de botella
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        sendOne(recorder);
+                    }
+                    return recorder;
+                }));
+            }
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total;
+        }
+    }
+
+    private void sendOne(LatencyRecorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/loadtest/slow-upstream"))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        String endpoint = "slow-upstream.error";
+        boolean error;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            error = response.statusCode() >= 400;
+            endpoint = response.body().contains("\"virtual\":true") ? "slow-upstream.virtual" : "slow-upstream.platform";
+        } catch (Exception e) {
+            error = true;
+        }
+        recorder.record(endpoint, System.nanoTime() - start, error);
+    }
+
+    /**
+     * Blocks on the (stubbed) Cloudinary upload, the same way the image endpoints do, and reports
+     * whether the request ran on a virtual thread. Nested in the test so component scanning skips it.
+     */
+    @RestController
+    static class SlowUpstreamController {
+
+        @Autowired
+        private FileUploadService fileUploadService;
+
+        @GetMapping("/loadtest/slow-upstream")
+        public Map<String, Object> slowUpstream() throws FileUploadException {
+            fileUploadService.uploadImage(Collections.emptyList());
+            return Map.of("virtual", Thread.currentThread().isVirtual());
+        }
+    }
+}
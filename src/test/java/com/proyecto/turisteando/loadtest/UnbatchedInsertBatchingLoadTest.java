@@ -0,0 +1,7 @@
+package com.proyecto.turisteando.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=0")
+class UnbatchedInsertBatchingLoadTest extends InsertBatchingLoadTest {
+}
@@ -0,0 +1,10 @@
+package com.proyecto.turisteando.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "loadtest.stub.upload-latency-ms=${loadtest.slow-upstream.latency-ms}"
+})
+class VirtualThreadSlowUpstreamLoadTest extends SlowUpstreamLoadTest {
+}
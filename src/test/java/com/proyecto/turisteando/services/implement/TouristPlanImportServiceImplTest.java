@@ -0,0 +1,177 @@
+package com.proyecto.turisteando.services.implement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.turisteando.dtos.responseDto.TouristPlanImportResponseDto;
+import com.proyecto.turisteando.entities.CategoryEntity;
+import com.proyecto.turisteando.entities.CharacteristicEntity;
+import com.proyecto.turisteando.entities.CityEntity;
+import com.proyecto.turisteando.entities.TouristPlanEntity;
+import com.proyecto.turisteando.exceptions.customExceptions.FileValidationException;
+import com.proyecto.turisteando.repositories.CategoryRepository;
+import com.proyecto.turisteando.repositories.CharacteristicRepository;
+import com.proyecto.turisteando.repositories.CityRepository;
+import com.proyecto.turisteando.repositories.TouristPlanRepository;
+import com.proyecto.turisteando.services.ITouristPlanImportService.ImportFormat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TouristPlanImportServiceImplTest {
+
+    private static final String HEADER = "title,description,price,seller,city,category,capacity,"
+            + "availabilityStartDate,availabilityEndDate,duration,characteristics,images";
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final TouristPlanRepository touristPlanRepository = mock(TouristPlanRepository.class);
+    private ValidatorFactory validatorFactory;
+    private TouristPlanImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(TouristPlanImportServiceImplTest::runInTransaction).when(transactionTemplate).executeWithoutResult(any());
+
+        CityRepository cityRepository = mock(CityRepository.class);
+        when(cityRepository.findAll()).thenReturn(List.of(CityEntity.builder().id(1L).name("Cusco").build()));
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAll()).thenReturn(List.of(CategoryEntity.builder().id(2L).name("Aventura").build()));
+        CharacteristicRepository characteristicRepository = mock(CharacteristicRepository.class);
+        when(characteristicRepository.findAll()).thenReturn(List.of(CharacteristicEntity.builder().id(3L).name("Guía").build()));
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new TouristPlanImportServiceImpl();
+        ReflectionTestUtils.setField(importService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(importService, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "validator", validatorFactory.getValidator());
+        ReflectionTestUtils.setField(importService, "cityRepository", cityRepository);
+        ReflectionTestUtils.setField(importService, "categoryRepository", categoryRepository);
+        ReflectionTestUtils.setField(importService, "characteristicRepository", characteristicRepository);
+        ReflectionTestUtils.setField(importService, "touristPlanRepository", touristPlanRepository);
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "maxErrors", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void parsesPlainFields() {
+        assertThat(TouristPlanImportServiceImpl.parseCsvLine("a, b ,c")).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void parsesQuotedFieldsWithCommasAndEscapedQuotes() {
+        assertThat(TouristPlanImportServiceImpl.parseCsvLine("\"Lima, Perú\",\"dice \"\"hola\"\"\",x"))
+                .containsExactly("Lima, Perú", "dice \"hola\"", "x");
+    }
+
+    @Test
+    void keepsEmptyAndTrailingFields() {
+        assertThat(TouristPlanImportServiceImpl.parseCsvLine("a,,\"\",")).containsExactly("a", "", "", "");
+    }
+
+    @Test
+    void rejectsUnclosedQuote() {
+        assertThatThrownBy(() -> TouristPlanImportServiceImpl.parseCsvLine("a,\"b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsHeaderWithMissingColumns() {
+        String csv = "title,description,price\n";
+
+        assertThatThrownBy(() -> importService.importTouristPlans(stream(csv), ImportFormat.CSV))
+                .isInstanceOf(FileValidationException.class)
+                .hasMessageContaining("seller")
+                .hasMessageContaining("images");
+    }
+
+    @Test
+    void reportsRowsWithMissingValues() throws Exception {
+        // la fila termina antes de las columnas de características e imágenes
+        String csv = HEADER + "\nPlan corto,Descripción del plan,10,,Cusco,Aventura,5,"
+                + LocalDate.now() + "," + LocalDate.now().plusDays(1) + ",2 días\n";
+
+        TouristPlanImportResponseDto result = importService.importTouristPlans(stream(csv), ImportFormat.CSV);
+
+        assertThat(result.getProcessed()).isEqualTo(1);
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("Las características no pueden estar vacías");
+        });
+    }
+
+    @Test
+    void accountsForChunksDuplicatesAndFailedFlushes() throws Exception {
+        String csv = String.join("\n", HEADER,
+                row("Plan uno", "Cusco"),
+                row("Plan dos", "Atlantis"),
+                row("Plan tres", "Cusco"),
+                "",
+                row("Plan existente", "Cusco"),
+                row("Plan cinco", "Cusco"),
+                row("Plan seis", "Cusco"));
+        when(touristPlanRepository.findExistingTitles(anyCollection())).thenReturn(List.of("Plan existente"));
+        // tercer lote: el flush falla con una excepción JPA sin traducir
+        doNothing().doNothing().doThrow(new PersistenceException("clave duplicada")).when(entityManager).flush();
+
+        TouristPlanImportResponseDto result = importService.importTouristPlans(stream(csv), ImportFormat.CSV);
+
+        assertThat(result.getProcessed()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(TouristPlanImportResponseDto.RowError::getLine).containsExactly(3L, 6L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("No existe la ciudad: Atlantis");
+        assertThat(result.getErrors().get(1).getMessage()).contains("Plan existente");
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(4)).persist(any(TouristPlanEntity.class));
+    }
+
+    private static String row(String title, String city) {
+        return String.join(",", title, "\"Descripción de " + title + ", con coma\"", "100.5", "Turisteando", city,
+                "aventura", "10", LocalDate.now().toString(), LocalDate.now().plusDays(3).toString(), "3 días",
+                "Guía", "https://img.test/1.jpg|https://img.test/2.jpg");
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object runInTransaction(InvocationOnMock invocation) {
+        invocation.<Consumer<Object>>getArgument(0).accept(null);
+        return null;
+    }
+}
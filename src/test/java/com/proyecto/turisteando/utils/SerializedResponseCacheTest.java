@@ -0,0 +1,166 @@
+package com.proyecto.turisteando.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    private static final String KEY = "categories";
+
+    private SerializedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SerializedResponseCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "cborConverter", new MappingJackson2CborHttpMessageConverter());
+        ReflectionTestUtils.setField(cache, "smileConverter", new MappingJackson2SmileHttpMessageConverter());
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+    }
+
+    @Test
+    void negotiatesJsonByDefault() throws Exception {
+        MockHttpServletResponse response = write(1, body("a"), request(null));
+
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsString()).contains("\"data\":[\"a\"]");
+    }
+
+    @Test
+    void negotiatesBinaryFormatsFromAccept() throws Exception {
+        MockHttpServletRequest cbor = request(null);
+        cbor.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        MockHttpServletRequest smile = request(null);
+        smile.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+
+        assertThat(write(1, body("a"), cbor).getContentType()).isEqualTo("application/cbor");
+        assertThat(write(1, body("a"), smile).getContentType()).isEqualTo("application/x-jackson-smile");
+    }
+
+    @Test
+    void negotiationFollowsQualityValues() throws Exception {
+        MockHttpServletRequest request = request(null);
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json");
+
+        assertThat(write(1, body("a"), request).getContentType()).isEqualTo("application/json");
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() throws Exception {
+        MockHttpServletResponse first = write(1, body("a"), request(null));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse second = write(1, body("a"), request(etag));
+
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+    }
+
+    @Test
+    void sendsBodyForStaleEtag() throws Exception {
+        String etag = write(1, body("a"), request(null)).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = write(2, body("b"), request(etag));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(response.getContentAsString()).contains("\"b\"");
+    }
+
+    @Test
+    void reusesEntryForSameVersion() throws Exception {
+        AtomicInteger renders = new AtomicInteger();
+        Supplier<Response> renderer = () -> {
+            renders.incrementAndGet();
+            return envelope("a");
+        };
+
+        write(1, renderer, request(null));
+        write(1, renderer, request(null));
+
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void olderRenderDoesNotReplaceNewerEntry() throws Exception {
+        write(2, body("new"), request(null));
+
+        // una petición que leyó la versión anterior termina después: responde con lo suyo, pero no se guarda
+        MockHttpServletResponse late = write(1, body("old"), request(null));
+        AtomicInteger renders = new AtomicInteger();
+        MockHttpServletResponse current = write(2, () -> {
+            renders.incrementAndGet();
+            return envelope("other");
+        }, request(null));
+
+        assertThat(late.getContentAsString()).contains("\"old\"");
+        assertThat(renders).hasValue(0);
+        assertThat(current.getContentAsString()).contains("\"new\"");
+    }
+
+    @Test
+    void gzipsOnlyWhenAcceptEncodingAllowsIt() throws Exception {
+        MockHttpServletRequest gzip = request(null);
+        gzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        MockHttpServletRequest refused = request(null);
+        refused.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+
+        assertThat(write(1, body("a"), gzip).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(write(1, body("a"), refused).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void parsesAcceptEncodingQualityValues() {
+        assertThat(SerializedResponseCache.acceptsGzip("gzip")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("deflate, GZIP ; q=0.5")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("x-gzip")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0.000")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("*;q=0")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("gzipx, br")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    private MockHttpServletResponse write(long version, Supplier<Response> renderer, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(KEY, version, renderer, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories/all");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static Supplier<Response> body(String value) {
+        return () -> envelope(value);
+    }
+
+    private static Response envelope(String value) {
+        return new Response(true, HttpStatus.OK, (Object) List.of(value));
+    }
+}